@@ -0,0 +1,98 @@
+package org.acme.employeescheduling.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.rest.DemandDataProvider;
+
+/**
+ * Problems built from the BSA exports bundled with the application.
+ */
+public final class BenchmarkDatasets {
+
+    public enum Dataset {
+        BERN(DemandDataProvider.BERN_MAI_AUGUST),
+        MAI_BIS_AUGUST(DemandDataProvider.MAI_BIS_AUGUST);
+
+        private final String csvResource;
+
+        Dataset(String csvResource) {
+            this.csvResource = csvResource;
+        }
+
+        public String getCsvResource() {
+            return csvResource;
+        }
+    }
+
+    private BenchmarkDatasets() {
+    }
+
+    /**
+     * Every demand of the export, unassigned, with {@code resourceCount} resources that hold every required qualification.
+     */
+    public static Schedule schedule(Dataset dataset, int resourceCount) {
+        List<Demand> demands = new ArrayList<>(DemandDataProvider.readDemands(dataset.getCsvResource()));
+        Set<String> allQualifications = new HashSet<>();
+        for (Demand demand : demands) {
+            allQualifications.addAll(demand.getRequiredQualifications());
+        }
+        List<Resource> resources = new ArrayList<>(resourceCount);
+        for (int i = 0; i < resourceCount; i++) {
+            resources.add(new Resource("Resource " + i, null, allQualifications, new HashSet<>(), new HashSet<>(),
+                    "Team " + (i % 10)));
+        }
+        return new Schedule(resources, demands);
+    }
+
+    /**
+     * The export repeated {@code factor} times, each copy shifted by whole weeks past the previous one,
+     * with {@code resourceCount} resources per copy.
+     * The demand and resource density over time stays that of the export.
+     */
+    public static Schedule scaledSchedule(Dataset dataset, int factor, int resourceCount) {
+        Schedule export = schedule(dataset, resourceCount * factor);
+        List<Demand> exportDemands = export.getDemands();
+        LocalDateTime firstStart = exportDemands.stream().map(Demand::getStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime lastEnd = exportDemands.stream().map(Demand::getEnd).max(Comparator.naturalOrder()).orElseThrow();
+        long horizonWeeks = ChronoUnit.WEEKS.between(firstStart, lastEnd) + 1;
+        List<Demand> demands = new ArrayList<>(exportDemands.size() * factor);
+        for (int copy = 0; copy < factor; copy++) {
+            for (Demand demand : exportDemands) {
+                demands.add(new Demand(demand.getId() + "#" + copy,
+                        demand.getStart().plusWeeks(copy * horizonWeeks), demand.getEnd().plusWeeks(copy * horizonWeeks),
+                        demand.getConstructionSite(), demand.getRequiredResourceCategory(), null,
+                        demand.getRequiredQualifications()));
+            }
+        }
+        return new Schedule(export.getResources(), demands);
+    }
+
+    /**
+     * Like {@link #schedule(Dataset, int)}, but each demand is assigned to a random resource,
+     * so the solution is initialized and local search starts right away.
+     */
+    public static Schedule initializedSchedule(Dataset dataset, int resourceCount, long seed) {
+        return initialize(schedule(dataset, resourceCount), seed);
+    }
+
+    /**
+     * Assigns each demand to a random eligible resource.
+     */
+    public static Schedule initialize(Schedule schedule, long seed) {
+        Random random = new Random(seed);
+        for (Demand demand : schedule.getDemands()) {
+            demand.setResource(demand.getEligibleResources().get(random.nextInt(demand.getEligibleResources().size())));
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,104 @@
+package org.acme.employeescheduling.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.benchmark.BenchmarkDatasets.Dataset;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.solver.SingleConstraintProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Incremental score calculation speed of the rest-time, construction site and shift change rules,
+ * comparing the windowed joins of the application with the former all-pairs formulation.
+ * <p>
+ * Each invocation runs local search from the same initialized solution until a fixed number of
+ * score calculations is reached; the reported throughput is score calculations per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConsecutiveShiftConstraintsBenchmark {
+
+    private static final int SCORE_CALCULATION_COUNT = 20_000;
+
+    public enum Formulation {
+        /**
+         * The rules of the application, selected by name through {@link SingleConstraintProvider}.
+         */
+        WINDOWED(SingleConstraintProvider.class,
+                "At least 12 hours between 2 shifts,Resource switching construction site,Shift changes"),
+        ALL_PAIRS(LegacyConsecutiveShiftConstraintProvider.class, null);
+
+        private final Class<? extends ConstraintProvider> constraintProviderClass;
+        private final String constraintNames;
+
+        Formulation(Class<? extends ConstraintProvider> constraintProviderClass, String constraintNames) {
+            this.constraintProviderClass = constraintProviderClass;
+            this.constraintNames = constraintNames;
+        }
+    }
+
+    @Param({ "BERN", "MAI_BIS_AUGUST" })
+    Dataset dataset;
+
+    @Param({ "WINDOWED", "ALL_PAIRS" })
+    Formulation formulation;
+
+    /**
+     * Fewer resources means more shifts per resource over the four month horizon.
+     */
+    @Param({ "50" })
+    int resourceCount;
+
+    private Schedule problem;
+    private Solver<Schedule> solver;
+
+    @Setup
+    public void setUp() {
+        problem = BenchmarkDatasets.initializedSchedule(dataset, resourceCount, 37L);
+        ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(formulation.constraintProviderClass);
+        if (formulation.constraintNames != null) {
+            scoreDirectorFactoryConfig.setConstraintProviderCustomProperties(
+                    Map.of("constraintNames", formulation.constraintNames));
+        }
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(Demand.class)
+                .withScoreDirectorFactory(scoreDirectorFactoryConfig)
+                .withPhases(new LocalSearchPhaseConfig())
+                .withTerminationConfig(new TerminationConfig()
+                        .withScoreCalculationCountLimit((long) SCORE_CALCULATION_COUNT));
+        solver = SolverFactory.<Schedule> create(solverConfig).buildSolver();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCORE_CALCULATION_COUNT)
+    public Schedule localSearch() {
+        return solver.solve(problem);
+    }
+}
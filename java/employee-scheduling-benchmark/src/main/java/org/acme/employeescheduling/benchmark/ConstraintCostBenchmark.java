@@ -0,0 +1,117 @@
+package org.acme.employeescheduling.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.benchmark.BenchmarkDatasets.Dataset;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.solver.SingleConstraintProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Incremental score calculation speed of each constraint of {@code EmployeeSchedulingConstraintProvider} on its own,
+ * and of all of them together.
+ * <p>
+ * Each invocation runs local search with random change and swap moves from the same initialized solution
+ * until a fixed number of score calculations is reached. Every evaluated move is done, scored and undone,
+ * so the reported throughput is moves evaluated per second. A drop for one constraint after a change
+ * points at that constraint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConstraintCostBenchmark {
+
+    private static final int SCORE_CALCULATION_COUNT = 20_000;
+    private static final int RESOURCE_COUNT = 50;
+
+    public enum ConstraintUnderTest {
+        ALL(null),
+        REQUIRED_RESOURCE_CATEGORY("Missing required resource category"),
+        REQUIRED_QUALIFICATIONS("Missing required qualification"),
+        NO_OVERLAPPING_SHIFTS("Overlapping shift"),
+        HOURS_BETWEEN_SHIFTS("At least 12 hours between 2 shifts"),
+        UNAVAILABLE_EMPLOYEE("Unavailable employee"),
+        UNDESIRED_DAY("Undesired day for employee"),
+        BALANCE_SHIFTS("Balance employee shift assignments"),
+        CONSTRUCTION_SITE_SWITCHING("Resource switching construction site"),
+        SHIFT_CHANGES("Shift changes"),
+        BALANCE_NIGHT_SHIFTS("Balance employee night shift assignments"),
+        TEAM_STABILITY("Reward team cohesion"),
+        UNASSIGNED_DEMAND("Unassigned demand penalty");
+
+        private final String constraintName;
+
+        ConstraintUnderTest(String constraintName) {
+            this.constraintName = constraintName;
+        }
+    }
+
+    @Param({ "BERN", "MAI_BIS_AUGUST" })
+    Dataset dataset;
+
+    /**
+     * How many times the export is repeated over time, see {@link BenchmarkDatasets#scaledSchedule}.
+     */
+    @Param({ "1", "4" })
+    int scale;
+
+    @Param({ "ALL", "REQUIRED_RESOURCE_CATEGORY", "REQUIRED_QUALIFICATIONS", "NO_OVERLAPPING_SHIFTS", "HOURS_BETWEEN_SHIFTS",
+            "UNAVAILABLE_EMPLOYEE", "UNDESIRED_DAY", "BALANCE_SHIFTS", "CONSTRUCTION_SITE_SWITCHING", "SHIFT_CHANGES",
+            "BALANCE_NIGHT_SHIFTS", "TEAM_STABILITY", "UNASSIGNED_DEMAND" })
+    ConstraintUnderTest constraint;
+
+    private Schedule problem;
+    private Solver<Schedule> solver;
+
+    @Setup
+    public void setUp() {
+        problem = BenchmarkDatasets.initialize(BenchmarkDatasets.scaledSchedule(dataset, scale, RESOURCE_COUNT), 37L);
+        ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(SingleConstraintProvider.class);
+        if (constraint.constraintName != null) {
+            scoreDirectorFactoryConfig.setConstraintProviderCustomProperties(Map.of("constraintName", constraint.constraintName));
+        }
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(Demand.class)
+                .withScoreDirectorFactory(scoreDirectorFactoryConfig)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())))
+                .withTerminationConfig(new TerminationConfig()
+                        .withScoreCalculationCountLimit((long) SCORE_CALCULATION_COUNT));
+        solver = SolverFactory.<Schedule> create(solverConfig).buildSolver();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCORE_CALCULATION_COUNT)
+    public Schedule localSearch() {
+        return solver.solve(problem);
+    }
+}
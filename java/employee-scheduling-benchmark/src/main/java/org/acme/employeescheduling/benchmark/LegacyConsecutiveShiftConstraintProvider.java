@@ -0,0 +1,73 @@
+package org.acme.employeescheduling.benchmark;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThanOrEqual;
+
+import java.time.Duration;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.FixedPointScore;
+
+/**
+ * The same rules as {@link ConsecutiveShiftConstraintsBenchmark.Formulation#WINDOWED}, formulated as before the windowed joins:
+ * every pair of demands of a resource is joined and then filtered on time.
+ * Kept as the baseline of the benchmark.
+ */
+public class LegacyConsecutiveShiftConstraintProvider implements ConstraintProvider {
+
+    private static final int MIN_HOURS_BETWEEN_SHIFTS = 12;
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        return new Constraint[] {
+                atLeastHoursBetweenTwoShifts(constraintFactory),
+                constructionSiteSwitching(constraintFactory),
+                shiftChanges(constraintFactory)
+        };
+    }
+
+    Constraint atLeastHoursBetweenTwoShifts(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Demand.class)
+                .join(Demand.class, equal(Demand::getResource), lessThanOrEqual(Demand::getEnd, Demand::getStart))
+                .filter((firstShift, secondShift) -> Duration.between(firstShift.getEnd(), secondShift.getStart())
+                        .toHours() < MIN_HOURS_BETWEEN_SHIFTS)
+                .penalize(FixedPointScore.ONE_HARD,
+                        (firstShift, secondShift) -> {
+                            int breakLength = (int) Duration.between(firstShift.getEnd(), secondShift.getStart()).toMinutes();
+                            return (MIN_HOURS_BETWEEN_SHIFTS * 60) - breakLength;
+                        })
+                .asConstraint("At least %d hours between 2 shifts".formatted(MIN_HOURS_BETWEEN_SHIFTS));
+    }
+
+    Constraint constructionSiteSwitching(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Demand.class)
+                .join(Demand.class,
+                        equal(Demand::getResource),
+                        filtering((d1, d2) -> consecutiveDemandsWithinDays(d1, d2, 2)))
+                .filter((demand1, demand2) -> demand1.getConstructionSite().equals(demand2.getConstructionSite()))
+                .reward(FixedPointScore.ONE_SOFT)
+                .asConstraint("Resource switching construction site");
+    }
+
+    Constraint shiftChanges(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Demand.class)
+                .join(Demand.class,
+                        equal(Demand::getResource),
+                        filtering((d1, d2) -> consecutiveDemandsWithinDays(d1, d2, 1)))
+                .filter((demand1, demand2) -> demand1.isNightShift() != demand2.isNightShift())
+                .penalize(FixedPointScore.ONE_SOFT)
+                .asConstraint("Shift changes");
+    }
+
+    private static boolean consecutiveDemandsWithinDays(Demand demand1, Demand demand2, int daysBetween) {
+        if (demand1.getStart().isAfter(demand2.getStart())) {
+            return false;
+        }
+        return Duration.between(demand1.getStart(), demand2.getStart()).toDays() <= daysBetween;
+    }
+}
@@ -0,0 +1,89 @@
+package org.acme.employeescheduling.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.acme.employeescheduling.domain.QualificationDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the "Missing required qualification" check: {@code Set<String>.containsAll} versus the bit masks
+ * of {@link QualificationDictionary}. Each invocation checks every demand against one resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QualificationCheckBenchmark {
+
+    private static final int DEMAND_COUNT = 1024;
+
+    /**
+     * Size of the qualification vocabulary; the BSA exports use around 80 distinct qualifications.
+     */
+    @Param({ "50", "100" })
+    int vocabularySize;
+
+    private Set<String>[] requiredQualifications;
+    private long[][] requiredQualificationMasks;
+    private Set<String> resourceQualifications;
+    private long[] resourceQualificationMask;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(37);
+        List<String> vocabulary = IntStream.range(0, vocabularySize)
+                .mapToObj(i -> "Qualification " + i)
+                .toList();
+        QualificationDictionary qualificationDictionary = new QualificationDictionary();
+        resourceQualifications = randomSubset(random, vocabulary, vocabularySize / 2);
+        resourceQualificationMask = qualificationDictionary.encode(resourceQualifications);
+        requiredQualifications = new Set[DEMAND_COUNT];
+        requiredQualificationMasks = new long[DEMAND_COUNT][];
+        for (int i = 0; i < DEMAND_COUNT; i++) {
+            // Like the exports: most demands require nothing or one qualification, few require more
+            requiredQualifications[i] = randomSubset(random, vocabulary, random.nextInt(4) == 0 ? 2 : 1);
+            requiredQualificationMasks[i] = qualificationDictionary.encode(requiredQualifications[i]);
+        }
+    }
+
+    private static Set<String> randomSubset(Random random, List<String> vocabulary, int size) {
+        Set<String> subset = new HashSet<>();
+        while (subset.size() < size) {
+            subset.add(vocabulary.get(random.nextInt(vocabulary.size())));
+        }
+        return subset;
+    }
+
+    @Benchmark
+    public void stringSetContainsAll(Blackhole blackhole) {
+        for (Set<String> required : requiredQualifications) {
+            blackhole.consume(resourceQualifications.containsAll(required));
+        }
+    }
+
+    @Benchmark
+    public void bitMaskContainsAll(Blackhole blackhole) {
+        for (long[] required : requiredQualificationMasks) {
+            blackhole.consume(QualificationDictionary.containsAll(resourceQualificationMask, required));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.acme.employeescheduling.benchmark;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import ai.timefold.solver.benchmark.api.PlannerBenchmark;
+import ai.timefold.solver.benchmark.api.PlannerBenchmarkFactory;
+
+import org.acme.employeescheduling.benchmark.BenchmarkDatasets.Dataset;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Runs a Timefold benchmark config on the bundled exports and on the Mai-bis-August export repeated four times,
+ * in that order, and writes the HTML report with the score over time of every solver config,
+ * and a CSV file per statistic, to {@code target/solver-benchmark-reports}.
+ * <p>
+ * Unlike the JMH benchmarks, this compares how well solver configs solve, not how fast the score is calculated.
+ */
+public final class SolverBenchmarkApp {
+
+    public static final String DEFAULT_BENCHMARK_CONFIG = "nearbySelectionBenchmarkConfig.xml";
+
+    private static final int RESOURCE_COUNT = 50;
+    private static final int SYNTHETIC_SCALE = 4;
+
+    private SolverBenchmarkApp() {
+    }
+
+    /**
+     * @param args the benchmark config resource, defaults to {@value #DEFAULT_BENCHMARK_CONFIG}
+     */
+    public static void main(String[] args) {
+        String benchmarkConfig = args.length > 0 && !args[0].isBlank() ? args[0] : DEFAULT_BENCHMARK_CONFIG;
+        Schedule[] problems = Stream.concat(
+                Arrays.stream(Dataset.values()).map(dataset -> BenchmarkDatasets.schedule(dataset, RESOURCE_COUNT)),
+                Stream.of(BenchmarkDatasets.scaledSchedule(Dataset.MAI_BIS_AUGUST, SYNTHETIC_SCALE, RESOURCE_COUNT)))
+                .toArray(Schedule[]::new);
+        PlannerBenchmark benchmark = PlannerBenchmarkFactory.createFromXmlResource(benchmarkConfig)
+                .buildPlannerBenchmark(problems);
+        File benchmarkDirectory = benchmark.benchmark();
+        System.out.println("Benchmark report: " + new File(benchmarkDirectory, "index.html").getAbsolutePath());
+    }
+}
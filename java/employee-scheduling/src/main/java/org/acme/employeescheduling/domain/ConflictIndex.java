@@ -0,0 +1,119 @@
+package org.acme.employeescheduling.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Demand x demand exclusion, built once per {@link Schedule}.
+ * <p>
+ * Holds the exclusion set ex_ij from Constraints.md: demands d_i and d_j conflict if they overlap
+ * or if one starts less than {@link #MIN_HOURS_BETWEEN_SHIFTS} after the other ends,
+ * so no resource can work both. That is, if their conflict windows overlap, see {@link Demand#getConflictWindowEndMinute()}.
+ * <p>
+ * The pairs are found with one sweep through the demands sorted by start
+ * and stored as adjacency arrays over the positions of the demands in {@link Schedule#getDemands()}.
+ * Positions rather than references, so the index stays valid on the solution clones the solver works on.
+ */
+public class ConflictIndex {
+
+    public static final int MIN_HOURS_BETWEEN_SHIFTS = 12;
+    public static final int MIN_MINUTES_BETWEEN_SHIFTS = MIN_HOURS_BETWEEN_SHIFTS * 60;
+
+    // The conflicting positions of the demand at position p are conflicts[offsets[p]] .. conflicts[offsets[p + 1] - 1], ascending
+    private final int[] offsets;
+    private final int[] conflicts;
+
+    private ConflictIndex(int[] offsets, int[] conflicts) {
+        this.offsets = offsets;
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * Also sets the position of every demand, see {@link Demand#getConflictIndexPosition()}.
+     */
+    public static ConflictIndex build(List<Demand> demands) {
+        int demandCount = demands.size();
+        Integer[] sweepOrder = new Integer[demandCount];
+        for (int position = 0; position < demandCount; position++) {
+            sweepOrder[position] = position;
+            demands.get(position).setConflictIndexPosition(position);
+        }
+        Arrays.sort(sweepOrder, Comparator.comparingInt(position -> demands.get(position).getStartMinute()));
+
+        // First pass counts, second pass fills, so each pair is only found once and no boxed lists are needed
+        int[] degrees = new int[demandCount];
+        sweep(demands, sweepOrder, (left, right) -> {
+            degrees[left]++;
+            degrees[right]++;
+        });
+        int[] offsets = new int[demandCount + 1];
+        for (int position = 0; position < demandCount; position++) {
+            offsets[position + 1] = offsets[position] + degrees[position];
+        }
+        int[] conflicts = new int[offsets[demandCount]];
+        int[] next = Arrays.copyOf(offsets, demandCount);
+        sweep(demands, sweepOrder, (left, right) -> {
+            conflicts[next[left]++] = right;
+            conflicts[next[right]++] = left;
+        });
+        for (int position = 0; position < demandCount; position++) {
+            Arrays.sort(conflicts, offsets[position], offsets[position + 1]);
+        }
+        return new ConflictIndex(offsets, conflicts);
+    }
+
+    // Every later demand that starts before the conflict window of an earlier one ends conflicts with it.
+    // The starts are sorted, so the scan of each demand stops at the first one that starts after its window.
+    private static void sweep(List<Demand> demands, Integer[] sweepOrder, PairConsumer consumer) {
+        for (int i = 0; i < sweepOrder.length; i++) {
+            Demand demand = demands.get(sweepOrder[i]);
+            for (int j = i + 1; j < sweepOrder.length; j++) {
+                if (demands.get(sweepOrder[j]).getStartMinute() >= demand.getConflictWindowEndMinute()) {
+                    break;
+                }
+                consumer.accept(sweepOrder[i], sweepOrder[j]);
+            }
+        }
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return the number of pairs
+     */
+    public int getConflictCount() {
+        return conflicts.length / 2;
+    }
+
+    public int getDegree(int position) {
+        return offsets[position + 1] - offsets[position];
+    }
+
+    public boolean isConflicting(int position, int otherPosition) {
+        return Arrays.binarySearch(conflicts, offsets[position], offsets[position + 1], otherPosition) >= 0;
+    }
+
+    /**
+     * @param demands the demands of the schedule the index was built for, or of a clone of it
+     * @param ignoredDemand a demand that does not count, such as the other demand of a swap, or null
+     * @return true if the resource works a demand that conflicts with the demand at the position
+     */
+    public boolean isConflictingWithResource(List<Demand> demands, int position, Resource resource, Demand ignoredDemand) {
+        for (int i = offsets[position]; i < offsets[position + 1]; i++) {
+            Demand conflictingDemand = demands.get(conflicts[i]);
+            if (conflictingDemand != ignoredDemand && resource.equals(conflictingDemand.getResource())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface PairConsumer {
+
+        void accept(int leftPosition, int rightPosition);
+    }
+}
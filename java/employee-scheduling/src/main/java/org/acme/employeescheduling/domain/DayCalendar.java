@@ -0,0 +1,75 @@
+package org.acme.employeescheduling.domain;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Immutable set of days stored as a bitmap, indexed by the number of days since its first day.
+ * <p>
+ * Replaces {@code Set<LocalDate>} lookups in the availability constraints:
+ * checking whether a demand touches a day is a shift and an AND, and no tuple per date is created.
+ */
+public final class DayCalendar {
+
+    public static final DayCalendar EMPTY = new DayCalendar(0, new long[0]);
+
+    private final int firstDay;
+    private final long[] days;
+
+    private DayCalendar(int firstDay, long[] days) {
+        this.firstDay = firstDay;
+        this.days = days;
+    }
+
+    public static DayCalendar of(Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return EMPTY;
+        }
+        int firstDay = Integer.MAX_VALUE;
+        int lastDay = Integer.MIN_VALUE;
+        for (LocalDate date : dates) {
+            int day = (int) date.toEpochDay();
+            firstDay = Math.min(firstDay, day);
+            lastDay = Math.max(lastDay, day);
+        }
+        long[] days = new long[((lastDay - firstDay) >>> 6) + 1];
+        for (LocalDate date : dates) {
+            int offset = (int) date.toEpochDay() - firstDay;
+            days[offset >>> 6] |= 1L << offset;
+        }
+        return new DayCalendar(firstDay, days);
+    }
+
+    /**
+     * @param epochDay as returned by {@link LocalDate#toEpochDay()}
+     */
+    public boolean contains(int epochDay) {
+        int offset = epochDay - firstDay;
+        if (offset < 0) {
+            return false;
+        }
+        int word = offset >>> 6;
+        return word < days.length && (days[word] & (1L << offset)) != 0L;
+    }
+
+    /**
+     * @return true if the demand starts or ends on one of the days
+     */
+    public boolean isTouchedBy(Demand demand) {
+        return contains(demand.getStartDay()) || contains(demand.getEndDay());
+    }
+
+    /**
+     * @return the minutes of the demand that fall on its start or end day, counting only days in this calendar
+     */
+    public int getTouchedMinutes(Demand demand) {
+        int minutes = 0;
+        if (contains(demand.getStartDay())) {
+            minutes += demand.getOverlappingDurationInMinutes(demand.getStartDay());
+        }
+        if (demand.getEndDay() != demand.getStartDay() && contains(demand.getEndDay())) {
+            minutes += demand.getOverlappingDurationInMinutes(demand.getEndDay());
+        }
+        return minutes;
+    }
+}
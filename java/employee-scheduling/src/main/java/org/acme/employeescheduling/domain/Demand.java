@@ -2,32 +2,62 @@ package org.acme.employeescheduling.domain;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.entity.PlanningPin;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
 import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
 import java.util.Set;
 
 @PlanningEntity
 public class Demand {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    // A shift is a night shift if it overlaps 00:00-04:00 on the day it ends
+    private static final int NIGHT_END_MINUTE_OF_DAY = 4 * 60;
+
     @PlanningId
     private String id;
 
     private LocalDateTime start;
     private LocalDateTime end;
 
+    // Derived from start and end when they are set, so constraints do plain int arithmetic
+    private int startMinute;
+    private int endMinute;
+    private int startDay;
+    private int endDay;
+    private boolean nightShift;
+    private int conflictWindowEndMinute;
+
     private String constructionSite;
-    private String shiftId; 
+    // Derived from the construction site and start when they are set
+    private String shiftId;
     private String requiredResourceCategory;
     private Set<String> requiredQualifications;
 
-     @PlanningVariable(valueRangeProviderRefs = "resourceRange",nullable = true)
+    // Encoded forms of the fields above, by the dictionary of the schedule, see Schedule#buildIndexes()
+    private QualificationDictionary qualificationDictionary;
+    private int requiredResourceCategoryCode = QualificationDictionary.NO_CATEGORY;
+    private long[] requiredQualificationMask = new long[0];
+
+     @PlanningVariable(valueRangeProviderRefs = "eligibleResourceRange",nullable = true)
     private Resource resource;
 
+    // Filled in by the EligibilityIndex, see Schedule#buildIndexes()
+    private List<Resource> eligibleResources;
+    // Filled in by the ConflictIndex, see Schedule#buildIndexes()
+    private int conflictIndexPosition = -1;
+
+    // A pinned demand keeps its resource while solving
+    @PlanningPin
+    private boolean pinned;
+
     public Demand() {
     }
 
@@ -42,12 +72,12 @@ public class Demand {
     public Demand(String id, LocalDateTime start, LocalDateTime end, String constructionSite, String requiredResourceCategory, Resource resource, Set<String> requiredQualifications) {
         this.id = id;
         this.start = start;
-        this.end = end;
+        setEnd(end);
         this.constructionSite = constructionSite;
-        this.requiredResourceCategory = requiredResourceCategory;
-        this.requiredQualifications = requiredQualifications;
+        setRequiredResourceCategory(requiredResourceCategory);
+        setRequiredQualifications(requiredQualifications);
         this.resource = resource;
-        this.shiftId = constructionSite + "-" + start.toEpochSecond(ZoneOffset.UTC);
+        updateShiftId();
     }
 
     public String getId() {
@@ -64,6 +94,8 @@ public class Demand {
 
     public void setStart(LocalDateTime start) {
         this.start = start;
+        updateTimeFields();
+        updateShiftId();
     }
 
     public LocalDateTime getEnd() {
@@ -72,6 +104,62 @@ public class Demand {
 
     public void setEnd(LocalDateTime end) {
         this.end = end;
+        updateTimeFields();
+    }
+
+    private void updateTimeFields() {
+        if (start != null) {
+            startMinute = toEpochMinute(start);
+            startDay = (int) start.toLocalDate().toEpochDay();
+        }
+        if (end != null) {
+            endMinute = toEpochMinute(end);
+            endDay = (int) end.toLocalDate().toEpochDay();
+            conflictWindowEndMinute = endMinute + ConflictIndex.MIN_MINUTES_BETWEEN_SHIFTS;
+        }
+        if (start != null && end != null) {
+            int nightStartMinute = endDay * MINUTES_PER_DAY;
+            nightShift = overlapInMinutes(nightStartMinute, nightStartMinute + NIGHT_END_MINUTE_OF_DAY) > 0;
+        }
+    }
+
+    private static int toEpochMinute(LocalDateTime dateTime) {
+        return (int) Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * @return minutes since 1970-01-01T00:00 (start is treated as UTC, like the rest of the model)
+     */
+    @JsonIgnore
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    @JsonIgnore
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /**
+     * @return the end of the minimum rest time after this demand; another demand of the same resource
+     * that starts before it conflicts with this one, see {@link ConflictIndex}
+     */
+    @JsonIgnore
+    public int getConflictWindowEndMinute() {
+        return conflictWindowEndMinute;
+    }
+
+    /**
+     * @return the epoch day of {@link #getStart()}
+     */
+    @JsonIgnore
+    public int getStartDay() {
+        return startDay;
+    }
+
+    @JsonIgnore
+    public int getEndDay() {
+        return endDay;
     }
 
     public String getConstructionSite() {
@@ -84,6 +172,11 @@ public class Demand {
 
     public void setConstructionSite(String constructionSite) {
         this.constructionSite = constructionSite;
+        updateShiftId();
+    }
+
+    private void updateShiftId() {
+        shiftId = start == null ? null : constructionSite + "-" + start.toEpochSecond(ZoneOffset.UTC);
     }
 
     public String getRequiredResourceCategory() {
@@ -92,6 +185,14 @@ public class Demand {
 
     public void setRequiredResourceCategory(String requiredResourceCategory) {
         this.requiredResourceCategory = requiredResourceCategory;
+        if (qualificationDictionary != null) {
+            this.requiredResourceCategoryCode = qualificationDictionary.categoryCode(requiredResourceCategory);
+        }
+    }
+
+    @JsonIgnore
+    public int getRequiredResourceCategoryCode() {
+        return requiredResourceCategoryCode;
     }
 
 
@@ -114,24 +215,117 @@ public class Demand {
 
     public void setRequiredQualifications(Set<String> requiredQualifications) {
         this.requiredQualifications = requiredQualifications;
+        if (qualificationDictionary != null) {
+            this.requiredQualificationMask = qualificationDictionary.encode(requiredQualifications);
+        }
+    }
+
+    /**
+     * Encodes the required resource category and qualifications;
+     * does nothing if they are already encoded by the dictionary.
+     *
+     * @throws IllegalArgumentException if a name is new and its vocabulary is full
+     */
+    public void encode(QualificationDictionary qualificationDictionary) {
+        if (this.qualificationDictionary == qualificationDictionary) {
+            return;
+        }
+        this.requiredResourceCategoryCode = qualificationDictionary.categoryCode(requiredResourceCategory);
+        this.requiredQualificationMask = qualificationDictionary.encode(requiredQualifications);
+        this.qualificationDictionary = qualificationDictionary;
+    }
+
+    /**
+     * @return null until {@link #encode(QualificationDictionary)} is called
+     */
+    @JsonIgnore
+    public QualificationDictionary getQualificationDictionary() {
+        return qualificationDictionary;
+    }
+
+    @JsonIgnore
+    public long[] getRequiredQualificationMask() {
+        return requiredQualificationMask;
+    }
+
+    // Not named like bean properties, so Jackson does not serialize them; call only if assigned
+    public boolean hasMatchingResourceCategory() {
+        return resource.getResourceCategoryCode() == requiredResourceCategoryCode;
+    }
+
+    public boolean hasRequiredQualifications() {
+        return resource.hasAllQualifications(requiredQualificationMask);
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    public void setPinned(boolean pinned) {
+        this.pinned = pinned;
+    }
+
+    /**
+     * @return a demand with the same fields, encoding, assignment and eligible resources
+     */
+    public Demand copy() {
+        Demand copy = new Demand(id, start, end, constructionSite, requiredResourceCategory, resource, requiredQualifications);
+        copy.shiftId = shiftId;
+        copy.qualificationDictionary = qualificationDictionary;
+        copy.requiredResourceCategoryCode = requiredResourceCategoryCode;
+        copy.requiredQualificationMask = requiredQualificationMask;
+        copy.eligibleResources = eligibleResources;
+        copy.pinned = pinned;
+        return copy;
+    }
+
+    @JsonIgnore
+    @ValueRangeProvider(id = "eligibleResourceRange")
+    public List<Resource> getEligibleResources() {
+        return eligibleResources;
+    }
+
+    public void setEligibleResources(List<Resource> eligibleResources) {
+        this.eligibleResources = eligibleResources;
+    }
+
+    /**
+     * @return the position of this demand in its schedule, -1 if the conflict index was not built
+     */
+    @JsonIgnore
+    public int getConflictIndexPosition() {
+        return conflictIndexPosition;
+    }
+
+    public void setConflictIndexPosition(int conflictIndexPosition) {
+        this.conflictIndexPosition = conflictIndexPosition;
     }
 
     public boolean isOverlappingWithDate(LocalDate date) {
-        return getStart().toLocalDate().equals(date) || getEnd().toLocalDate().equals(date);
+        long day = date.toEpochDay();
+        return startDay == day || endDay == day;
     }
 
     public int getOverlappingDurationInMinutes(LocalDate date) {
-        LocalDateTime startDateTime = LocalDateTime.of(date, LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(date, LocalTime.MAX);
-        return getOverlappingDurationInMinutes(startDateTime, endDateTime, getStart(), getEnd());
+        return getOverlappingDurationInMinutes((int) date.toEpochDay());
+    }
+
+    public int getOverlappingDurationInMinutes(int epochDay) {
+        int dayStartMinute = epochDay * MINUTES_PER_DAY;
+        // The day ends at LocalTime.MAX, one minute short of the next day when truncated to minutes
+        return overlapInMinutes(dayStartMinute, dayStartMinute + MINUTES_PER_DAY - 1);
+    }
+
+    /**
+     * @return the minutes this demand shares with the other demand, 0 if they do not overlap
+     */
+    public int getOverlapInMinutes(Demand other) {
+        return overlapInMinutes(other.startMinute, other.endMinute);
     }
 
-    private int getOverlappingDurationInMinutes(LocalDateTime firstStartDateTime, LocalDateTime firstEndDateTime,
-            LocalDateTime secondStartDateTime, LocalDateTime secondEndDateTime) {
-        LocalDateTime maxStartTime = firstStartDateTime.isAfter(secondStartDateTime) ? firstStartDateTime : secondStartDateTime;
-        LocalDateTime minEndTime = firstEndDateTime.isBefore(secondEndDateTime) ? firstEndDateTime : secondEndDateTime;
-        long minutes = maxStartTime.until(minEndTime, ChronoUnit.MINUTES);
-        return minutes > 0 ? (int) minutes : 0;
+    private int overlapInMinutes(int otherStartMinute, int otherEndMinute) {
+        int minutes = Math.min(endMinute, otherEndMinute) - Math.max(startMinute, otherStartMinute);
+        return Math.max(minutes, 0);
     }
 
     @Override
@@ -156,8 +350,6 @@ public class Demand {
     }
 
     public boolean isNightShift() {
-        return getOverlappingDurationInMinutes(this.start, this.end,
-            LocalDateTime.of(this.end.toLocalDate(), LocalTime.parse("00:00:00")),
-            LocalDateTime.of(this.end.toLocalDate(), LocalTime.parse("04:00:00"))) > 0;
+        return nightShift;
     }
 }
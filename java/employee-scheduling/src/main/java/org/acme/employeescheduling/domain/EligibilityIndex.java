@@ -0,0 +1,103 @@
+package org.acme.employeescheduling.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resource x demand eligibility, built once per {@link Schedule}.
+ * <p>
+ * Encodes the resources and the attached demands with the {@link QualificationDictionary} of the schedule.
+ * <p>
+ * Holds the qualification score s_ij from Constraints.md: 0 if resource r_i does not satisfy demand d_j,
+ * 1 for a perfect match and 1 + the number of over-qualifications otherwise.
+ * Demands with the same required qualifications share one row, so the index stays small on large exports.
+ */
+public class EligibilityIndex {
+
+    private final QualificationDictionary qualificationDictionary;
+    private final List<Resource> resources;
+    private final Map<Resource, Integer> resourcePositions;
+    private final Map<Set<String>, Row> rowsByRequirement = new HashMap<>();
+
+    private EligibilityIndex(QualificationDictionary qualificationDictionary, List<Resource> resources) {
+        this.qualificationDictionary = qualificationDictionary;
+        this.resources = resources;
+        this.resourcePositions = new HashMap<>(resources.size() * 2);
+        for (int i = 0; i < resources.size(); i++) {
+            Resource resource = resources.get(i);
+            resource.encode(qualificationDictionary);
+            resourcePositions.put(resource, i);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the schedule has more distinct names than its dictionary allows
+     */
+    public static EligibilityIndex build(QualificationDictionary qualificationDictionary, Schedule schedule) {
+        EligibilityIndex index = of(qualificationDictionary, schedule.getResources());
+        for (Demand demand : schedule.getDemands()) {
+            index.attach(demand);
+        }
+        return index;
+    }
+
+    /**
+     * @return an index without attached demands, see {@link #attach(Demand)}
+     */
+    public static EligibilityIndex of(QualificationDictionary qualificationDictionary, List<Resource> resources) {
+        return new EligibilityIndex(qualificationDictionary, List.copyOf(resources));
+    }
+
+    /**
+     * Encodes a demand and sets its eligible resources, which back its planning variable value range.
+     */
+    public void attach(Demand demand) {
+        demand.encode(qualificationDictionary);
+        Row row = rowsByRequirement.computeIfAbsent(requirementOf(demand), this::computeRow);
+        demand.setEligibleResources(row.eligibleResources());
+    }
+
+    public boolean isEligible(Resource resource, Demand demand) {
+        return score(resource, demand) > 0;
+    }
+
+    public int score(Resource resource, Demand demand) {
+        Integer position = resourcePositions.get(resource);
+        if (position == null) {
+            return qualificationScore(resource, demand.getRequiredQualificationMask());
+        }
+        return rowsByRequirement.computeIfAbsent(requirementOf(demand), this::computeRow).scores()[position];
+    }
+
+    public static int qualificationScore(Resource resource, long[] requiredQualificationMask) {
+        if (!resource.hasAllQualifications(requiredQualificationMask)) {
+            return 0;
+        }
+        return 1 + QualificationDictionary.countExtra(resource.getQualificationMask(), requiredQualificationMask);
+    }
+
+    private Row computeRow(Set<String> requiredQualifications) {
+        long[] requiredQualificationMask = qualificationDictionary.encode(requiredQualifications);
+        int[] scores = new int[resources.size()];
+        List<Resource> eligibleResources = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i++) {
+            Resource resource = resources.get(i);
+            scores[i] = qualificationScore(resource, requiredQualificationMask);
+            if (scores[i] > 0) {
+                eligibleResources.add(resource);
+            }
+        }
+        return new Row(Collections.unmodifiableList(eligibleResources), scores);
+    }
+
+    private static Set<String> requirementOf(Demand demand) {
+        return demand.getRequiredQualifications() == null ? Set.of() : demand.getRequiredQualifications();
+    }
+
+    private record Row(List<Resource> eligibleResources, int[] scores) {
+    }
+}
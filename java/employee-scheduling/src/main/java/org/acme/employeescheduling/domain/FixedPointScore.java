@@ -0,0 +1,79 @@
+package org.acme.employeescheduling.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+/**
+ * The score of a {@link Schedule} in fixed point: every level counts in {@link #SCALE}ths of a point,
+ * so incremental score calculation stays in {@code long} arithmetic.
+ * <p>
+ * The scale is a multiple of 60, so a weight of 1/60 point per minute is exact.
+ * Use {@link #format} and {@link #parse} wherever a score is shown to or read from a person.
+ */
+public final class FixedPointScore {
+
+    public static final long SCALE = 6_000L;
+    // Enough to tell apart two scores one raw unit apart, which are 1/6000 point apart
+    public static final int DISPLAY_DECIMALS = 4;
+
+    public static final HardMediumSoftLongScore ONE_HARD = HardMediumSoftLongScore.ofHard(SCALE);
+    public static final HardMediumSoftLongScore ONE_MEDIUM = HardMediumSoftLongScore.ofMedium(SCALE);
+    public static final HardMediumSoftLongScore ONE_SOFT = HardMediumSoftLongScore.ofSoft(SCALE);
+    /**
+     * The smallest soft weight, for match weights that are already scaled, see {@link #scale(BigDecimal)}.
+     */
+    public static final HardMediumSoftLongScore SCALED_SOFT = HardMediumSoftLongScore.ofSoft(1L);
+
+    private FixedPointScore() {
+    }
+
+    /**
+     * @return the soft weight of the given fraction of a point, such as {@code 1 / 60}
+     * @throws IllegalArgumentException if it is not a whole number of {@link #SCALE}ths
+     */
+    public static HardMediumSoftLongScore ofSoftFraction(int numerator, int denominator) {
+        if ((SCALE * numerator) % denominator != 0) {
+            throw new IllegalArgumentException("The fraction (" + numerator + "/" + denominator
+                    + ") is not a whole number of 1/" + SCALE + " points.");
+        }
+        return HardMediumSoftLongScore.ofSoft(SCALE * numerator / denominator);
+    }
+
+    /**
+     * @return the value in {@link #SCALE}ths, rounded half even
+     */
+    public static long scale(BigDecimal value) {
+        return value.multiply(BigDecimal.valueOf(SCALE)).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    public static BigDecimal unscale(long scaledValue) {
+        return BigDecimal.valueOf(scaledValue)
+                .divide(BigDecimal.valueOf(SCALE), DISPLAY_DECIMALS, RoundingMode.HALF_EVEN)
+                .stripTrailingZeros();
+    }
+
+    /**
+     * @return in points, such as {@code 0hard/-3medium/-12.5soft}
+     */
+    public static String format(HardMediumSoftLongScore score) {
+        return unscale(score.hardScore()).toPlainString() + "hard/"
+                + unscale(score.mediumScore()).toPlainString() + "medium/"
+                + unscale(score.softScore()).toPlainString() + "soft";
+    }
+
+    /**
+     * The inverse of {@link #format}, up to its {@link #DISPLAY_DECIMALS}.
+     */
+    public static HardMediumSoftLongScore parse(String score) {
+        String[] levels = score.split("/");
+        if (levels.length != 3 || !levels[0].endsWith("hard") || !levels[1].endsWith("medium") || !levels[2].endsWith("soft")) {
+            throw new IllegalArgumentException("The score (" + score + ") does not follow the pattern 0hard/0medium/0soft.");
+        }
+        return HardMediumSoftLongScore.of(
+                scale(new BigDecimal(levels[0].substring(0, levels[0].length() - "hard".length()))),
+                scale(new BigDecimal(levels[1].substring(0, levels[1].length() - "medium".length()))),
+                scale(new BigDecimal(levels[2].substring(0, levels[2].length() - "soft".length()))));
+    }
+}
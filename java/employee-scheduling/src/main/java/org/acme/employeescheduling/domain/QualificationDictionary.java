@@ -0,0 +1,125 @@
+package org.acme.employeescheduling.domain;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns the qualification and resource category names of one {@link Schedule} to small integer codes.
+ * <p>
+ * Qualification sets become {@code long[]} bit masks, so checking that a resource holds every qualification
+ * a demand requires is a few AND instructions instead of hashing strings.
+ * Codes are only comparable within the dictionary that assigned them, see {@link Schedule#buildIndexes()}.
+ * Each vocabulary is capped per schedule: past the cap, a new name is rejected with an {@link IllegalArgumentException}.
+ * Nothing is shared across schedules, so one request with many names cannot fill the vocabulary of another.
+ */
+public final class QualificationDictionary {
+
+    public static final int NO_CATEGORY = -1;
+
+    // Far above the few hundred names of the BSA exports; a full qualification mask is 64 longs
+    static final int MAX_QUALIFICATIONS = 4096;
+    static final int MAX_CATEGORIES = 1024;
+
+    private static final long[] EMPTY_MASK = new long[0];
+
+    // Problem changes add names while solving, so a vocabulary may be used by several threads
+    private final Vocabulary qualifications = new Vocabulary("qualification", MAX_QUALIFICATIONS);
+    private final Vocabulary categories = new Vocabulary("resource category", MAX_CATEGORIES);
+
+    /**
+     * @throws IllegalArgumentException if the qualification is new and the vocabulary is full
+     */
+    public int qualificationBit(String qualification) {
+        return qualifications.codeOf(qualification);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the resource category is new and the vocabulary is full
+     */
+    public int categoryCode(String resourceCategory) {
+        if (resourceCategory == null) {
+            return NO_CATEGORY;
+        }
+        return categories.codeOf(resourceCategory);
+    }
+
+    /**
+     * @throws IllegalArgumentException if a qualification is new and the vocabulary is full
+     */
+    public long[] encode(Collection<String> qualifications) {
+        if (qualifications == null || qualifications.isEmpty()) {
+            return EMPTY_MASK;
+        }
+        long[] mask = EMPTY_MASK;
+        for (String qualification : qualifications) {
+            int bit = qualificationBit(qualification);
+            int word = bit >>> 6;
+            if (word >= mask.length) {
+                long[] grown = new long[word + 1];
+                System.arraycopy(mask, 0, grown, 0, mask.length);
+                mask = grown;
+            }
+            mask[word] |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * @return true if every bit set in {@code required} is also set in {@code available}
+     */
+    public static boolean containsAll(long[] available, long[] required) {
+        for (int word = 0; word < required.length; word++) {
+            long availableWord = word < available.length ? available[word] : 0L;
+            if ((required[word] & ~availableWord) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of bits set in {@code available} but not in {@code required}
+     */
+    public static int countExtra(long[] available, long[] required) {
+        int count = 0;
+        for (int word = 0; word < available.length; word++) {
+            long requiredWord = word < required.length ? required[word] : 0L;
+            count += Long.bitCount(available[word] & ~requiredWord);
+        }
+        return count;
+    }
+
+    static final class Vocabulary {
+
+        private final String kind;
+        private final int maxSize;
+        private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<>();
+        private final AtomicInteger nextCode = new AtomicInteger();
+
+        Vocabulary(String kind, int maxSize) {
+            this.kind = kind;
+            this.maxSize = maxSize;
+        }
+
+        int codeOf(String name) {
+            Integer code = codes.get(name);
+            if (code != null) {
+                return code;
+            }
+            return codes.computeIfAbsent(name, n -> {
+                int nextFreeCode = nextCode.getAndUpdate(c -> c < maxSize ? c + 1 : c);
+                if (nextFreeCode >= maxSize) {
+                    throw new IllegalArgumentException("The " + kind + " (" + n + ") is unknown and there are already "
+                            + maxSize + " distinct " + kind + " names.");
+                }
+                return nextFreeCode;
+            });
+        }
+
+        int size() {
+            return nextCode.get();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class Resource {
 
@@ -13,9 +14,18 @@ public class Resource {
     private String resourceCategory;
     private Set<String> qualifications;
 
+    // Encoded forms of the fields above, by the dictionary of the schedule, see Schedule#buildIndexes()
+    private QualificationDictionary qualificationDictionary;
+    private int resourceCategoryCode = QualificationDictionary.NO_CATEGORY;
+    private long[] qualificationMask = new long[0];
+
     private Set<LocalDate> unavailableDates;
     private Set<LocalDate> undesiredDates;
 
+    // Bitmap forms of the dates above, rebuilt by their setters
+    private DayCalendar unavailableCalendar = DayCalendar.EMPTY;
+    private DayCalendar undesiredCalendar = DayCalendar.EMPTY;
+
     private String team;
 
     public Resource() {
@@ -25,10 +35,10 @@ public class Resource {
     public Resource(String name, String resourceCategory, Set<String> skills,
         Set<LocalDate> unavailableDates, Set<LocalDate> undesiredDates, String team) {
         this.name = name;
-        this.resourceCategory = resourceCategory;
-        this.qualifications = skills;
-        this.unavailableDates = unavailableDates;
-        this.undesiredDates = undesiredDates;
+        setResourceCategory(resourceCategory);
+        setQualifications(skills);
+        setUnavailableDates(unavailableDates);
+        setUndesiredDates(undesiredDates);
         this.team = team;
     }
 
@@ -46,6 +56,14 @@ public class Resource {
 
     public void setResourceCategory(String resourceCategory) {
         this.resourceCategory = resourceCategory;
+        if (qualificationDictionary != null) {
+            this.resourceCategoryCode = qualificationDictionary.categoryCode(resourceCategory);
+        }
+    }
+
+    @JsonIgnore
+    public int getResourceCategoryCode() {
+        return resourceCategoryCode;
     }
 
     public Set<String> getQualifications() {
@@ -54,6 +72,40 @@ public class Resource {
 
     public void setQualifications(Set<String> qualifications) {
         this.qualifications = qualifications;
+        if (qualificationDictionary != null) {
+            this.qualificationMask = qualificationDictionary.encode(qualifications);
+        }
+    }
+
+    /**
+     * Encodes the resource category and qualifications; does nothing if they are already encoded by the dictionary.
+     *
+     * @throws IllegalArgumentException if a name is new and its vocabulary is full
+     */
+    public void encode(QualificationDictionary qualificationDictionary) {
+        if (this.qualificationDictionary == qualificationDictionary) {
+            return;
+        }
+        this.resourceCategoryCode = qualificationDictionary.categoryCode(resourceCategory);
+        this.qualificationMask = qualificationDictionary.encode(qualifications);
+        this.qualificationDictionary = qualificationDictionary;
+    }
+
+    /**
+     * @return null until {@link #encode(QualificationDictionary)} is called
+     */
+    @JsonIgnore
+    public QualificationDictionary getQualificationDictionary() {
+        return qualificationDictionary;
+    }
+
+    @JsonIgnore
+    public long[] getQualificationMask() {
+        return qualificationMask;
+    }
+
+    public boolean hasAllQualifications(long[] requiredQualificationMask) {
+        return QualificationDictionary.containsAll(qualificationMask, requiredQualificationMask);
     }
 
     public Set<LocalDate> getUnavailableDates() {
@@ -62,6 +114,12 @@ public class Resource {
 
     public void setUnavailableDates(Set<LocalDate> unavailableDates) {
         this.unavailableDates = unavailableDates;
+        this.unavailableCalendar = DayCalendar.of(unavailableDates);
+    }
+
+    @JsonIgnore
+    public DayCalendar getUnavailableCalendar() {
+        return unavailableCalendar;
     }
 
     public Set<LocalDate> getUndesiredDates() {
@@ -70,6 +128,12 @@ public class Resource {
 
     public void setUndesiredDates(Set<LocalDate> undesiredDates) {
         this.undesiredDates = undesiredDates;
+        this.undesiredCalendar = DayCalendar.of(undesiredDates);
+    }
+
+    @JsonIgnore
+    public DayCalendar getUndesiredCalendar() {
+        return undesiredCalendar;
     }
 
     public String getTeam() {
@@ -2,38 +2,52 @@ package org.acme.employeescheduling.domain;
 
 import java.util.List;
 
+import ai.timefold.solver.core.api.domain.solution.ConstraintWeightOverrides;
 import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
 import ai.timefold.solver.core.api.domain.solution.PlanningScore;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
-import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
-import ai.timefold.solver.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import ai.timefold.solver.core.api.solver.SolverStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @PlanningSolution
 public class Schedule {
 
     @ProblemFactCollectionProperty
-    @ValueRangeProvider(id = "resourceRange")
     private List<Resource> resources;
 
     @PlanningEntityCollectionProperty
     private List<Demand> demands;
 
+    // In fixed point, see FixedPointScore
     @PlanningScore
-    private HardSoftBigDecimalScore score;
+    private HardMediumSoftLongScore score;
 
     private SolverStatus solverStatus;
+    // 1 for the next job to start, null unless the job waits in the JobScheduler
+    private Integer queuePosition;
+
+    // Disables the soft constraints during the feasibility phase of a phased solve
+    private ConstraintWeightOverrides<HardMediumSoftLongScore> constraintWeightOverrides = ConstraintWeightOverrides.none();
+
+    private QualificationDictionary qualificationDictionary;
+    private EligibilityIndex eligibilityIndex;
+    private ConflictIndex conflictIndex;
 
     // No-arg constructor required for Timefold
     public Schedule() {}
 
+    /**
+     * @throws IllegalArgumentException if the schedule has more distinct names than its dictionary allows
+     */
     public Schedule(List<Resource> resources, List<Demand> demands) {
         this.resources = resources;
         this.demands = demands;
+        buildIndexesIfComplete();
     }
 
-    public Schedule(HardSoftBigDecimalScore score, SolverStatus solverStatus) {
+    public Schedule(HardMediumSoftLongScore score, SolverStatus solverStatus) {
         this.score = score;
         this.solverStatus = solverStatus;
     }
@@ -44,6 +58,7 @@ public class Schedule {
 
     public void setResources(List<Resource> resources) {
         this.resources = resources;
+        buildIndexesIfComplete();
     }
 
     public List<Demand> getDemands() {
@@ -52,16 +67,99 @@ public class Schedule {
 
     public void setDemands(List<Demand> demands) {
         this.demands = demands;
+        buildIndexesIfComplete();
     }
 
-    public HardSoftBigDecimalScore getScore() {
+    public HardMediumSoftLongScore getScore() {
         return score;
     }
 
-    public void setScore(HardSoftBigDecimalScore score) {
+    public void setScore(HardMediumSoftLongScore score) {
         this.score = score;
     }
 
+    /**
+     * Builds the lookup structures derived from the problem facts, and encodes the qualifications and resource categories
+     * with the {@link QualificationDictionary} of this schedule. Happens as soon as both the resources and the demands are set,
+     * so call it only to rebuild the indexes after changing those lists in place.
+     *
+     * @throws IllegalArgumentException if the schedule has more distinct names than the dictionary allows
+     */
+    public void buildIndexes() {
+        if (qualificationDictionary == null) {
+            qualificationDictionary = findQualificationDictionary();
+        }
+        this.eligibilityIndex = EligibilityIndex.build(qualificationDictionary, this);
+        this.conflictIndex = ConflictIndex.build(demands);
+    }
+
+    // Jackson sets the lists one by one, the Timefold cloner sets the fields and copies the indexes instead
+    private void buildIndexesIfComplete() {
+        if (resources != null && demands != null) {
+            buildIndexes();
+        }
+    }
+
+    // A schedule derived from another one, such as a rolling-horizon window or an eligibility component,
+    // shares its resources, so it keeps their codes instead of encoding them again
+    private QualificationDictionary findQualificationDictionary() {
+        for (Resource resource : resources) {
+            if (resource.getQualificationDictionary() != null) {
+                return resource.getQualificationDictionary();
+            }
+        }
+        for (Demand demand : demands) {
+            if (demand.getQualificationDictionary() != null) {
+                return demand.getQualificationDictionary();
+            }
+        }
+        return new QualificationDictionary();
+    }
+
+    /**
+     * Replaces the eligibility index after resources were added or removed.
+     * The demands keep their old eligible resources until they are attached to the returned index.
+     */
+    public EligibilityIndex rebuildEligibilityIndex() {
+        this.eligibilityIndex = EligibilityIndex.of(qualificationDictionary, resources);
+        return eligibilityIndex;
+    }
+
+    /**
+     * @return null until the indexes are built
+     */
+    @JsonIgnore
+    public QualificationDictionary getQualificationDictionary() {
+        return qualificationDictionary;
+    }
+
+    @JsonIgnore
+    public EligibilityIndex getEligibilityIndex() {
+        return eligibilityIndex;
+    }
+
+    /**
+     * Replaces the conflict index after demands were added, removed or moved in time.
+     */
+    public ConflictIndex rebuildConflictIndex() {
+        this.conflictIndex = ConflictIndex.build(demands);
+        return conflictIndex;
+    }
+
+    @JsonIgnore
+    public ConflictIndex getConflictIndex() {
+        return conflictIndex;
+    }
+
+    @JsonIgnore
+    public ConstraintWeightOverrides<HardMediumSoftLongScore> getConstraintWeightOverrides() {
+        return constraintWeightOverrides;
+    }
+
+    public void setConstraintWeightOverrides(ConstraintWeightOverrides<HardMediumSoftLongScore> constraintWeightOverrides) {
+        this.constraintWeightOverrides = constraintWeightOverrides;
+    }
+
     public SolverStatus getSolverStatus() {
         return solverStatus;
     }
@@ -69,4 +167,12 @@ public class Schedule {
     public void setSolverStatus(SolverStatus solverStatus) {
         this.solverStatus = solverStatus;
     }
+
+    public Integer getQueuePosition() {
+        return queuePosition;
+    }
+
+    public void setQueuePosition(Integer queuePosition) {
+        this.queuePosition = queuePosition;
+    }
 }
@@ -0,0 +1,92 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.config.solver.termination.DiminishedReturnsTerminationConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.domain.Schedule;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * The termination of a job, scaled to the size of its problem instead of one spent limit for all jobs.
+ * <p>
+ * The spent limit grows linearly with the number of demands, between a minimum and a maximum.
+ * Within it, the job also stops once it hits diminished returns: when the best score improved less in the last
+ * improvement window than the minimum improvement ratio times what it improved in the first window.
+ * So a small job frees its solver slot early, and a large one gets the time it needs.
+ */
+@ApplicationScoped
+public class AdaptiveTermination {
+
+    private final Duration spentLimitPerThousandDemands;
+    private final Duration minSpentLimit;
+    private final Duration maxSpentLimit;
+    private final Duration improvementWindow;
+    private final double minimumImprovementRatio;
+
+    @Inject
+    public AdaptiveTermination(
+            @ConfigProperty(name = "employee-scheduling.termination.spent-limit-per-thousand-demands",
+                    defaultValue = "15s") Duration spentLimitPerThousandDemands,
+            @ConfigProperty(name = "employee-scheduling.termination.min-spent-limit", defaultValue = "10s") Duration minSpentLimit,
+            @ConfigProperty(name = "employee-scheduling.termination.max-spent-limit", defaultValue = "10m") Duration maxSpentLimit,
+            @ConfigProperty(name = "employee-scheduling.termination.improvement-window",
+                    defaultValue = "20s") Duration improvementWindow,
+            @ConfigProperty(name = "employee-scheduling.termination.minimum-improvement-ratio",
+                    defaultValue = "0.001") double minimumImprovementRatio) {
+        this.spentLimitPerThousandDemands = spentLimitPerThousandDemands;
+        this.minSpentLimit = minSpentLimit;
+        this.maxSpentLimit = maxSpentLimit;
+        this.improvementWindow = improvementWindow;
+        this.minimumImprovementRatio = minimumImprovementRatio;
+    }
+
+    /**
+     * @param improvementWindow null to stop on the spent limit only
+     */
+    public record Options(Duration spentLimit, Duration improvementWindow, double minimumImprovementRatio) {
+    }
+
+    /**
+     * @return the configured termination for the size of the problem
+     */
+    public Options getDefaultOptions(Schedule problem) {
+        int demandCount = problem.getDemands() == null ? 0 : problem.getDemands().size();
+        Duration spentLimit = spentLimitPerThousandDemands.multipliedBy(demandCount).dividedBy(1000L);
+        if (spentLimit.compareTo(minSpentLimit) < 0) {
+            spentLimit = minSpentLimit;
+        } else if (spentLimit.compareTo(maxSpentLimit) > 0) {
+            spentLimit = maxSpentLimit;
+        }
+        // The first window sets the reference rate, so a window longer than half the time would never be compared
+        Duration window = improvementWindow.compareTo(spentLimit.dividedBy(2L)) > 0 ? spentLimit.dividedBy(2L) : improvementWindow;
+        return new Options(spentLimit, window, minimumImprovementRatio);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the options are not positive
+     */
+    public TerminationConfig toTerminationConfig(Options options) {
+        if (options.spentLimit().isZero() || options.spentLimit().isNegative()) {
+            throw new IllegalArgumentException("The spent limit (" + options.spentLimit() + ") must be positive.");
+        }
+        TerminationConfig terminationConfig = new TerminationConfig().withSpentLimit(options.spentLimit());
+        if (options.improvementWindow() == null) {
+            return terminationConfig;
+        }
+        if (options.improvementWindow().isZero() || options.improvementWindow().isNegative()) {
+            throw new IllegalArgumentException("The improvement window (" + options.improvementWindow() + ") must be positive.");
+        }
+        if (!(options.minimumImprovementRatio() > 0.0)) {
+            throw new IllegalArgumentException("The minimum improvement ratio (" + options.minimumImprovementRatio()
+                    + ") must be positive.");
+        }
+        return terminationConfig.withDiminishedReturnsConfig(new DiminishedReturnsTerminationConfig()
+                .withSlidingWindowDuration(options.improvementWindow())
+                .withMinimumImprovementRatio(options.minimumImprovementRatio()));
+    }
+}
@@ -0,0 +1,113 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * The version at which each demand of a job last changed its resource, to answer "what changed since version N".
+ * <p>
+ * The history can be compacted, for example when its job is spilled to disk.
+ * Asking for the changes since a version before the compaction then returns every assignment.
+ */
+final class AssignmentVersions {
+
+    private long version = 0L;
+    // Versions up to this one are compacted
+    private long historyStart = 0L;
+    // Resource name by demand ID of the latest version
+    private Map<String, String> assignments = new HashMap<>();
+    private Map<String, Long> changeVersions = new HashMap<>();
+    private Map<String, Long> removalVersions = new HashMap<>();
+
+    /**
+     * Records the submitted problem as version 0.
+     */
+    static AssignmentVersions of(Schedule problem) {
+        AssignmentVersions versions = new AssignmentVersions();
+        for (Demand demand : problem.getDemands()) {
+            versions.assignments.put(demand.getId(), resourceName(demand));
+            versions.changeVersions.put(demand.getId(), 0L);
+        }
+        return versions;
+    }
+
+    /**
+     * Records a new best solution as the next version.
+     *
+     * @return the changes since the previous version
+     */
+    synchronized ScheduleDelta update(Schedule schedule) {
+        version++;
+        Map<String, String> newAssignments = new HashMap<>(schedule.getDemands().size() * 2);
+        Map<String, String> changedAssignments = new HashMap<>();
+        for (Demand demand : schedule.getDemands()) {
+            String resourceName = resourceName(demand);
+            newAssignments.put(demand.getId(), resourceName);
+            // Demands added by a problem change count as changed
+            boolean known = assignments.containsKey(demand.getId());
+            String previousResourceName = assignments.remove(demand.getId());
+            if (!known || !Objects.equals(previousResourceName, resourceName)) {
+                changedAssignments.put(demand.getId(), resourceName);
+                changeVersions.put(demand.getId(), version);
+                removalVersions.remove(demand.getId());
+            }
+        }
+        // What is left was removed by a problem change
+        List<String> removedDemandIds = new ArrayList<>(assignments.keySet());
+        for (String demandId : removedDemandIds) {
+            changeVersions.remove(demandId);
+            removalVersions.put(demandId, version);
+        }
+        assignments = newAssignments;
+        return new ScheduleDelta(version, schedule.getScore(), null, changedAssignments, removedDemandIds);
+    }
+
+    /**
+     * @param schedule the schedule of the latest version
+     */
+    synchronized ScheduleDelta since(long sinceVersion, Schedule schedule) {
+        Map<String, String> changedAssignments = new HashMap<>();
+        List<String> removedDemandIds = new ArrayList<>();
+        if (sinceVersion < historyStart) {
+            for (Demand demand : schedule.getDemands()) {
+                changedAssignments.put(demand.getId(), resourceName(demand));
+            }
+        } else if (sinceVersion < version) {
+            changeVersions.forEach((demandId, changeVersion) -> {
+                if (changeVersion > sinceVersion) {
+                    changedAssignments.put(demandId, assignments.get(demandId));
+                }
+            });
+            removalVersions.forEach((demandId, removalVersion) -> {
+                if (removalVersion > sinceVersion) {
+                    removedDemandIds.add(demandId);
+                }
+            });
+        }
+        return new ScheduleDelta(version, schedule.getScore(), null, changedAssignments, removedDemandIds);
+    }
+
+    synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Drops the history, keeping only the version number.
+     */
+    synchronized void compact() {
+        historyStart = version;
+        assignments = new HashMap<>();
+        changeVersions = new HashMap<>();
+        removalVersions = new HashMap<>();
+    }
+
+    private static String resourceName(Demand demand) {
+        return demand.getResource() == null ? null : demand.getResource().getName();
+    }
+}
@@ -0,0 +1,35 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+/**
+ * What each constraint costs to calculate on the final solution of a job, see {@link ConstraintProfiler}.
+ *
+ * @param complete false while the job is solving or being profiled
+ * @param constraints most expensive first
+ * @param all every constraint together, null until complete
+ * @param error why profiling failed, null otherwise
+ */
+public record ConstraintProfile(boolean complete, List<ConstraintCost> constraints, ConstraintCost all, String error) {
+
+    /**
+     * @param constraintName null for all constraints together
+     * @param wallTimeMillis of the incremental score calculations
+     * @param scoreCalculationSpeed score calculations per second
+     * @param matchCount the tuples the constraint penalizes or rewards in the final solution
+     * @param score of the constraint in the final solution
+     */
+    public record ConstraintCost(String constraintName, long wallTimeMillis, long scoreCalculationCount,
+            long scoreCalculationSpeed, int matchCount, HardMediumSoftLongScore score) {
+    }
+
+    static ConstraintProfile pending() {
+        return new ConstraintProfile(false, List.of(), null, null);
+    }
+
+    static ConstraintProfile failed(String error) {
+        return new ConstraintProfile(true, List.of(), null, error);
+    }
+}
@@ -0,0 +1,156 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.rest.ConstraintProfile.ConstraintCost;
+import org.acme.employeescheduling.solver.SingleConstraintProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures what each constraint costs on the final solution of a job that was submitted with profiling.
+ * <p>
+ * Timefold does not split the score calculation time by constraint, so each constraint is run on its own,
+ * see {@link SingleConstraintProvider}: local search with random change and swap moves starts from a copy
+ * of the final solution and stops after a fixed number of score calculations, with a fixed random seed.
+ * The wall time of that run is the cost of the constraint; the match count of the score analysis is the number of
+ * tuples it penalizes or rewards. Profiles run one at a time, so they do not slow each other down.
+ */
+@ApplicationScoped
+public class ConstraintProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConstraintProfiler.class);
+
+    private static final long RANDOM_SEED = 37L;
+
+    private final SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager;
+    private final JobStore jobStore;
+    private final int scoreCalculationCount;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ConcurrentMap<String, ConstraintProfile> profiles = new ConcurrentHashMap<>();
+
+    @Inject
+    public ConstraintProfiler(SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager, JobStore jobStore,
+            @ConfigProperty(name = "employee-scheduling.profiling.score-calculation-count",
+                    defaultValue = "20000") int scoreCalculationCount) {
+        this.solutionManager = solutionManager;
+        this.jobStore = jobStore;
+        this.scoreCalculationCount = scoreCalculationCount;
+    }
+
+    /**
+     * Registers a pending profile for a job that is about to be solved.
+     */
+    public void expect(String jobId) {
+        // Drop the profiles of jobs the job store no longer has
+        profiles.keySet().retainAll(jobStore.jobIds());
+        profiles.put(jobId, ConstraintProfile.pending());
+    }
+
+    /**
+     * Profiles the final solution of an expected job in the background; other jobs are ignored.
+     */
+    public void profile(String jobId, Schedule solution) {
+        if (!profiles.containsKey(jobId)) {
+            return;
+        }
+        Schedule schedule = copy(solution);
+        executor.execute(() -> {
+            ConstraintProfile profile;
+            try {
+                profile = profile(schedule);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed profiling the constraints of jobId ({}).", jobId, e);
+                profile = ConstraintProfile.failed(e.getMessage());
+            }
+            profiles.replace(jobId, profile);
+        });
+    }
+
+    public Optional<ConstraintProfile> getProfile(String jobId) {
+        return Optional.ofNullable(profiles.get(jobId));
+    }
+
+    ConstraintProfile profile(Schedule schedule) {
+        ScoreAnalysis<HardMediumSoftLongScore> scoreAnalysis = solutionManager.analyze(schedule);
+        List<ConstraintCost> constraintCosts = new ArrayList<>();
+        for (ConstraintAnalysis<HardMediumSoftLongScore> constraintAnalysis : scoreAnalysis.constraintAnalyses()) {
+            int matchCount = constraintAnalysis.matches() == null ? 0 : constraintAnalysis.matches().size();
+            constraintCosts.add(measure(constraintAnalysis.constraintRef().constraintName(), schedule, matchCount,
+                    constraintAnalysis.score()));
+        }
+        constraintCosts.sort(Comparator.comparingLong(ConstraintCost::wallTimeMillis).reversed());
+        int totalMatchCount = constraintCosts.stream().mapToInt(ConstraintCost::matchCount).sum();
+        ConstraintCost all = measure(null, schedule, totalMatchCount, scoreAnalysis.score());
+        return new ConstraintProfile(true, List.copyOf(constraintCosts), all, null);
+    }
+
+    private ConstraintCost measure(String constraintName, Schedule schedule, int matchCount,
+            HardMediumSoftLongScore score) {
+        ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(SingleConstraintProvider.class);
+        if (constraintName != null) {
+            scoreDirectorFactoryConfig.setConstraintProviderCustomProperties(Map.of("constraintName", constraintName));
+        }
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(Demand.class)
+                .withEnvironmentMode(EnvironmentMode.NO_ASSERT)
+                .withRandomSeed(RANDOM_SEED)
+                .withScoreDirectorFactory(scoreDirectorFactoryConfig)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())))
+                .withTerminationConfig(new TerminationConfig()
+                        .withScoreCalculationCountLimit((long) scoreCalculationCount));
+        var solver = SolverFactory.<Schedule> create(solverConfig).buildSolver();
+        // The solver changes the solution it is given
+        Schedule workingSchedule = copy(schedule);
+        long startNanos = System.nanoTime();
+        solver.solve(workingSchedule);
+        long wallTimeNanos = Math.max(1L, System.nanoTime() - startNanos);
+        return new ConstraintCost(constraintName, TimeUnit.NANOSECONDS.toMillis(wallTimeNanos), scoreCalculationCount,
+                scoreCalculationCount * TimeUnit.SECONDS.toNanos(1) / wallTimeNanos, matchCount, score);
+    }
+
+    private static Schedule copy(Schedule solution) {
+        List<Demand> demands = solution.getDemands().stream().map(Demand::copy).toList();
+        return new Schedule(solution.getResources(), new ArrayList<>(demands));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
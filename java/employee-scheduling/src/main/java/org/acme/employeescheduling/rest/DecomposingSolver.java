@@ -0,0 +1,76 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverJob;
+
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.solver.EligibilityComponents;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Solves the connected components of the eligibility graph of a schedule as separate solver jobs, at the same time,
+ * see {@link EligibilityComponents}.
+ * The job takes a {@link JobScheduler} slot for each part, so it is split into at most {@code max-running-jobs} parts.
+ */
+@ApplicationScoped
+public class DecomposingSolver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecomposingSolver.class);
+
+    private final SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager;
+    private final SolverRuns solverRuns;
+    private final int maxPartCount;
+
+    @Inject
+    public DecomposingSolver(SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager, SolverRuns solverRuns,
+            JobScheduler jobScheduler,
+            @ConfigProperty(name = "employee-scheduling.decomposition.max-parts") Optional<Integer> maxPartCount) {
+        this.solutionManager = solutionManager;
+        this.solverRuns = solverRuns;
+        this.maxPartCount = Math.min(maxPartCount.orElseGet(() -> Runtime.getRuntime().availableProcessors()),
+                jobScheduler.getMaxRunningJobs());
+    }
+
+    /**
+     * Starts solving in the background, once the {@link JobScheduler} has a slot free for each part.
+     *
+     * @return false if the queue of the priority is full
+     */
+    public boolean solve(String jobId, JobScheduler.Priority priority, Schedule problem) {
+        List<Schedule> parts = EligibilityComponents.split(problem, maxPartCount);
+        LOGGER.info("Split jobId ({}) into {} parts of {} demands.", jobId, parts.size(),
+                parts.stream().map(part -> part.getDemands().size()).toList());
+        return solverRuns.start(jobId, priority, Math.max(1, parts.size()), problem, run -> solveParts(run, problem, parts));
+    }
+
+    private void solveParts(SolverRuns.Run run, Schedule problem, List<Schedule> parts)
+            throws InterruptedException, ExecutionException {
+        List<SolverJob<Schedule, String>> solverJobs = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            SolverJob<Schedule, String> solverJob = run.solve("part-" + i, parts.get(i), null);
+            if (solverJob == null) {
+                break;
+            }
+            solverJobs.add(solverJob);
+        }
+        List<Schedule> partSolutions = new ArrayList<>(solverJobs.size());
+        for (SolverJob<Schedule, String> solverJob : solverJobs) {
+            partSolutions.add(solverJob.getFinalBestSolution());
+        }
+        Schedule schedule = EligibilityComponents.merge(problem, partSolutions);
+        // The part scores miss the constraints across parts
+        solutionManager.update(schedule);
+        run.finish(schedule);
+    }
+}
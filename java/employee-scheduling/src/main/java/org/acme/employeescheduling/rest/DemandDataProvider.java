@@ -1,73 +1,174 @@
 package org.acme.employeescheduling.rest;
 
-import java.net.URL;
-
 import org.acme.employeescheduling.domain.Demand;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.io.FileReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Reads BSA shift exports into {@link Demand}s in a single streaming pass.
+ * <p>
+ * The encoding and the date format are detected once per file, rows are parsed one at a time
+ * into a presized list, and rows that cannot be parsed are counted and reported instead of aborting the import.
+ */
 public class DemandDataProvider {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DemandDataProvider.class);
+
     public static final DateTimeFormatter FORMATTER_EN = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     public static final DateTimeFormatter FORMATTER_DE = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
 
+    public static final String MAI_BIS_AUGUST = "/BSA_Export_Schichten_Mai-bis-August.csv";
+    public static final String BERN_MAI_AUGUST = "/BSA_Export_Schichten_Bern_Mai-August.csv";
+
+    // Bytes inspected to tell UTF-8 from ISO-8859-1 exports
+    private static final int ENCODING_PROBE_BYTES = 64 * 1024;
+    // A BSA export row is a little over 100 bytes
+    private static final int ESTIMATED_BYTES_PER_ROW = 100;
+    private static final int MAX_REPORTED_REJECTED_ROWS = 10;
+
+    /**
+     * Outcome of one import.
+     *
+     * @param rejectedRows the first few rejected rows with their line number and reason
+     */
+    public record DemandImport(List<Demand> demands, int rowCount, int rejectedRowCount, List<String> rejectedRows) {
+    }
+
     public static List<Demand> readDemands() {
-        URL url = DemandDataProvider.class.getResource("/BSA_Export_Schichten_Mai-bis-August.csv");
-//        URL url = DemandDataProvider.class.getResource("/BSA_Export_Schichten_Bern_Mai-August.csv");
-        List<Demand> demands = new LinkedList<>();
-        int currentId = 0;
-        int wrongLines = 0;
+        return readDemands(MAI_BIS_AUGUST);
+    }
+
+    /**
+     * @param csvResource classpath resource of a BSA export, such as {@link #MAI_BIS_AUGUST}
+     */
+    public static List<Demand> readDemands(String csvResource) {
+        return importDemands(csvResource).demands();
+    }
+
+    public static DemandImport importDemands(String csvResource) {
+        // Read from the classpath, so the exports can also be loaded from inside a jar
+        URL url = DemandDataProvider.class.getResource(csvResource);
+        if (url == null) {
+            throw new IllegalArgumentException("The demand export (" + csvResource + ") is not on the classpath.");
+        }
         try {
-            Reader reader = new FileReader(url.getFile());
-            CSVParser parser = new CSVParser(reader, CSVFormat.newFormat(';').withFirstRecordAsHeader());
-            var records = parser.getRecords();
-            for (CSVRecord csvRecord : records) {
-                Demand demand = new Demand();
+            URLConnection connection = url.openConnection();
+            try (InputStream inputStream = connection.getInputStream()) {
+                DemandImport demandImport = importDemands(inputStream, connection.getContentLengthLong());
+                if (demandImport.rejectedRowCount() > 0) {
+                    LOGGER.warn("Rejected {} of {} rows of the demand export ({}), for example: {}",
+                            demandImport.rejectedRowCount(), demandImport.rowCount(), csvResource,
+                            demandImport.rejectedRows());
+                }
+                return demandImport;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the demand export (" + csvResource + ").", e);
+        }
+    }
+
+    /**
+     * @param byteSizeHint the size of the export in bytes, used to presize the result; 0 or negative if unknown
+     */
+    public static DemandImport importDemands(InputStream inputStream, long byteSizeHint) throws IOException {
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream, ENCODING_PROBE_BYTES);
+        Charset charset = detectCharset(bufferedInputStream);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(bufferedInputStream, charset));
+        skipByteOrderMark(reader);
+
+        List<Demand> demands = new ArrayList<>(estimateRowCount(byteSizeHint));
+        List<String> rejectedRows = new ArrayList<>();
+        int rowCount = 0;
+        int rejectedRowCount = 0;
+        int currentId = 0;
+        DateTimeFormatter formatter = null;
+        try (CSVParser parser = new CSVParser(reader, CSVFormat.newFormat(';').withFirstRecordAsHeader())) {
+            // Iterating the parser keeps only the current record in memory
+            for (CSVRecord csvRecord : parser) {
+                rowCount++;
                 try {
+                    if (formatter == null) {
+                        formatter = detectDateFormat(csvRecord.get("Schichtstart"));
+                    }
+                    Demand demand = new Demand();
                     demand.setId(Integer.toString(currentId++));
-                    demand.setStart(getStartTime(csvRecord));
-                    demand.setEnd(getEndTime(csvRecord));
+                    demand.setStart(LocalDateTime.parse(csvRecord.get("Schichtstart"), formatter));
+                    demand.setEnd(LocalDateTime.parse(csvRecord.get("Schichtende"), formatter));
                     demand.setConstructionSite(getConstructionSite(csvRecord));
                     demand.setRequiredResourceCategory(getRequiredResourceCategory(csvRecord));
                     demand.setRequiredQualifications(getRequiredQualifications(csvRecord));
                     demands.add(demand);
-                } catch (Exception e) {
-                    wrongLines++;
-                    // ignore all invalid input data
+                } catch (RuntimeException e) {
+                    rejectedRowCount++;
+                    if (rejectedRows.size() < MAX_REPORTED_REJECTED_ROWS) {
+                        rejectedRows.add("line " + parser.getCurrentLineNumber() + ": " + e.getMessage());
+                    }
                 }
             }
+        }
+        return new DemandImport(demands, rowCount, rejectedRowCount, rejectedRows);
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private static Charset detectCharset(BufferedInputStream inputStream) throws IOException {
+        inputStream.mark(ENCODING_PROBE_BYTES);
+        byte[] probe = inputStream.readNBytes(ENCODING_PROBE_BYTES);
+        inputStream.reset();
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        // Not the end of input: a multibyte character cut off at the end of the probe is not an error
+        boolean isUtf8 = !decoder.decode(ByteBuffer.wrap(probe), CharBuffer.allocate(probe.length), false).isError();
+        return isUtf8 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+    }
+
+    // The Mai-bis-August export starts with a UTF-8 BOM, which would otherwise become part of the first header name
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
         }
-        return demands;
     }
 
-    private static LocalDateTime getStartTime(CSVRecord record) {
+    private static DateTimeFormatter detectDateFormat(String dateTime) {
         try {
-            return LocalDateTime.parse(record.get("Schichtstart"), FORMATTER_EN);
+            LocalDateTime.parse(dateTime, FORMATTER_EN);
+            return FORMATTER_EN;
         } catch (DateTimeParseException e) {
-            return LocalDateTime.parse(record.get("Schichtstart"), FORMATTER_DE);
+            LocalDateTime.parse(dateTime, FORMATTER_DE);
+            return FORMATTER_DE;
         }
     }
 
-    private static LocalDateTime getEndTime(CSVRecord record) {
-        try {
-            return LocalDateTime.parse(record.get("Schichtende"), FORMATTER_EN);
-        } catch (DateTimeParseException e) {
-            return LocalDateTime.parse(record.get("Schichtende"), FORMATTER_DE);
+    private static int estimateRowCount(long byteSizeHint) {
+        if (byteSizeHint <= 0) {
+            return 1024;
         }
+        return (int) Math.min(Integer.MAX_VALUE - 8, byteSizeHint / ESTIMATED_BYTES_PER_ROW + 1);
     }
 
     private static String getConstructionSite(CSVRecord record) {
@@ -79,6 +180,13 @@ public class DemandDataProvider {
     }
 
     private static Set<String> getRequiredQualifications(CSVRecord record) {
-        return Set.of(record.get("Qualifikationen").split(","));
+        // An empty column means no qualification is required, not a qualification named ""
+        Set<String> qualifications = new HashSet<>();
+        for (String qualification : record.get("Qualifikationen").split(",")) {
+            if (!qualification.isBlank()) {
+                qualifications.add(qualification.trim());
+            }
+        }
+        return Set.copyOf(qualifications);
     }
 }
@@ -4,15 +4,18 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import org.acme.employeescheduling.domain.Schedule;
 import org.acme.employeescheduling.rest.DemoDataGenerator.DemoData;
+import org.acme.employeescheduling.rest.exception.ErrorInfo;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
@@ -48,4 +51,26 @@ public class EmployeeScheduleDemoResource {
     public Response generate(@PathParam("demoDataId") DemoData demoData) {
         return Response.ok(dataGenerator.generateDemoData(demoData)).build();
     }
+
+    @APIResponses(value = {
+            @APIResponse(responseCode = "200", description = "Unsolved synthetic schedule.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = Schedule.class))),
+            @APIResponse(responseCode = "400", description = "Counts out of range.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))) })
+    @Operation(summary = "Generate an unsolved schedule of any size from the construction sites of the BSA exports.")
+    @GET
+    @Path("/synthetic")
+    public Response generateSynthetic(
+            @Parameter(description = "The number of demands, up to 500000.") @QueryParam("demands") int demandCount,
+            @Parameter(description = "The number of resources, up to 20000.") @QueryParam("resources") int resourceCount,
+            @Parameter(description = "The horizon in weeks, by default the span of the exports.") @QueryParam("weeks") Integer weeks,
+            @Parameter(description = "The same seed gives the same schedule.") @QueryParam("seed") long seed) {
+        try {
+            return Response.ok(dataGenerator.generate(demandCount, resourceCount, weeks, seed)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(new ErrorInfo(null, e.getMessage())).build();
+        }
+    }
 }
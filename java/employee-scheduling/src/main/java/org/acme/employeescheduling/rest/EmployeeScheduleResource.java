@@ -1,6 +1,9 @@
 package org.acme.employeescheduling.rest;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -15,19 +18,33 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
-import ai.timefold.solver.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverConfigOverride;
 import ai.timefold.solver.core.api.solver.SolverManager;
 import ai.timefold.solver.core.api.solver.SolverStatus;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
 import org.acme.employeescheduling.domain.Schedule;
 import org.acme.employeescheduling.rest.exception.EmployeeScheduleSolverException;
 import org.acme.employeescheduling.rest.exception.ErrorInfo;
+import org.acme.employeescheduling.solver.change.AddDemandProblemChange;
+import org.acme.employeescheduling.solver.change.AddResourceProblemChange;
+import org.acme.employeescheduling.solver.change.AddUnavailableDatesProblemChange;
+import org.acme.employeescheduling.solver.change.ChangeDemandProblemChange;
+import org.acme.employeescheduling.solver.change.RemoveDemandProblemChange;
+import org.acme.employeescheduling.solver.change.RemoveResourceProblemChange;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -45,17 +62,44 @@ public class EmployeeScheduleResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeScheduleResource.class);
 
+    // The version of the schedule in the response, see ScheduleDelta
+    static final String SCHEDULE_VERSION_HEADER = "Schedule-Version";
+
     SolverManager<Schedule, String> solverManager;
-    SolutionManager<Schedule, HardSoftBigDecimalScore> solutionManager;
+    SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager;
+    JobStore jobStore;
+    ScheduleEventPublisher eventPublisher;
+    SolverRuns solverRuns;
+    RollingHorizonSolver rollingHorizonSolver;
+    DecomposingSolver decomposingSolver;
+    PhasedSolver phasedSolver;
+    AdaptiveTermination adaptiveTermination;
+    JobScheduler jobScheduler;
+    SolverMetrics solverMetrics;
+    ConstraintProfiler constraintProfiler;
 
-    // TODO: Without any "time to live", the map may eventually grow out of memory.
-    private final ConcurrentMap<String, Job> jobIdToJob = new ConcurrentHashMap<>();
+    // The jobs handed to the SolverManager that have not ended, and whether they started solving.
+    // Whichever removes a job first ends it: its final best solution or exception, or terminateSolving() before it started.
+    private final ConcurrentMap<String, Boolean> solvingJobStarted = new ConcurrentHashMap<>();
 
     @Inject
     public EmployeeScheduleResource(SolverManager<Schedule, String> solverManager,
-            SolutionManager<Schedule, HardSoftBigDecimalScore> solutionManager) {
+            SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager, JobStore jobStore,
+            ScheduleEventPublisher eventPublisher, SolverRuns solverRuns, RollingHorizonSolver rollingHorizonSolver,
+            DecomposingSolver decomposingSolver, PhasedSolver phasedSolver, AdaptiveTermination adaptiveTermination,
+            JobScheduler jobScheduler, SolverMetrics solverMetrics, ConstraintProfiler constraintProfiler) {
         this.solverManager = solverManager;
         this.solutionManager = solutionManager;
+        this.jobStore = jobStore;
+        this.eventPublisher = eventPublisher;
+        this.solverRuns = solverRuns;
+        this.rollingHorizonSolver = rollingHorizonSolver;
+        this.decomposingSolver = decomposingSolver;
+        this.phasedSolver = phasedSolver;
+        this.adaptiveTermination = adaptiveTermination;
+        this.jobScheduler = jobScheduler;
+        this.solverMetrics = solverMetrics;
+        this.constraintProfiler = constraintProfiler;
     }
 
     @Operation(summary = "List the job IDs of all submitted schedules.")
@@ -66,29 +110,260 @@ public class EmployeeScheduleResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Collection<String> list() {
-        return jobIdToJob.keySet();
+        return jobStore.jobIds();
+    }
+
+    @Operation(summary = "Submit a schedule to start solving as soon as CPU resources are available, "
+            + "after the queued schedules of a higher priority and the earlier ones of the same priority. "
+            + "By default, the solver runs for a time that grows with the number of demands, "
+            + "and stops earlier once the best score barely improves anymore.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202",
+                    description = "The job ID. Use that ID to get the solution with the other methods.",
+                    content = @Content(mediaType = MediaType.TEXT_PLAIN, schema = @Schema(implementation = String.class))),
+            @APIResponse(responseCode = "400", description = "Invalid termination options.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "429", description = "The queue of the priority is full. "
+                    + "Retry after the seconds in the Retry-After header.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))) })
+    @POST
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces(MediaType.TEXT_PLAIN)
+    public String solve(Schedule problem,
+            @Parameter(description = "URGENT for same-day replanning, BATCH for overnight and what-if runs; defaults to NORMAL.")
+            @QueryParam("priority") JobScheduler.Priority priority,
+            @Parameter(description = "Measure what each constraint costs on the final solution, see GET {jobId}/profile.")
+            @QueryParam("profile") boolean profile,
+            @Parameter(description = "The maximum time to solve for, in seconds.") @QueryParam("spentLimitSeconds") Integer spentLimitSeconds,
+            @Parameter(description = "The window over which the best score improvement is measured, in seconds; "
+                    + "0 to only stop on the spent limit.") @QueryParam("improvementWindowSeconds") Integer improvementWindowSeconds,
+            @Parameter(description = "Stop once the best score improves less in a window than this ratio "
+                    + "of what it improved in the first window.") @QueryParam("minimumImprovementRatio") Double minimumImprovementRatio) {
+        String jobId = UUID.randomUUID().toString();
+        AdaptiveTermination.Options defaultOptions = adaptiveTermination.getDefaultOptions(problem);
+        AdaptiveTermination.Options options = new AdaptiveTermination.Options(
+                spentLimitSeconds == null ? defaultOptions.spentLimit() : Duration.ofSeconds(spentLimitSeconds),
+                improvementWindowSeconds == null ? defaultOptions.improvementWindow()
+                        : improvementWindowSeconds == 0 ? null : Duration.ofSeconds(improvementWindowSeconds),
+                minimumImprovementRatio == null ? defaultOptions.minimumImprovementRatio() : minimumImprovementRatio);
+        TerminationConfig terminationConfig;
+        try {
+            terminationConfig = adaptiveTermination.toTerminationConfig(options);
+        } catch (IllegalArgumentException e) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.BAD_REQUEST, e.getMessage());
+        }
+        JobScheduler.Priority jobPriority = orDefault(priority);
+        SolverMetrics.JobMetrics jobMetrics = solverMetrics.submitted(jobId);
+        boolean admitted = jobScheduler.submit(jobId, jobPriority,
+                () -> {
+                    jobStore.putProblem(jobId, problem);
+                    if (profile) {
+                        constraintProfiler.expect(jobId);
+                    }
+                    eventPublisher.open(jobId);
+                },
+                () -> startSolving(jobId, problem, terminationConfig, jobMetrics));
+        if (!admitted) {
+            solverMetrics.cancelled(jobId);
+            throw tooManyQueued(jobId, jobPriority);
+        }
+        return jobId;
+    }
+
+    private static JobScheduler.Priority orDefault(JobScheduler.Priority priority) {
+        return priority == null ? JobScheduler.Priority.NORMAL : priority;
+    }
+
+    private EmployeeScheduleSolverException tooManyQueued(String jobId, JobScheduler.Priority priority) {
+        return new EmployeeScheduleSolverException(jobId, Response.Status.TOO_MANY_REQUESTS,
+                "Too many queued schedules of priority (" + priority + ").", jobScheduler.getRetryAfter());
+    }
+
+    private void startSolving(String jobId, Schedule problem, TerminationConfig terminationConfig,
+            SolverMetrics.JobMetrics jobMetrics) {
+        solvingJobStarted.put(jobId, false);
+        try {
+            jobMetrics.attach(solverManager.solveBuilder()
+                    .withProblemId(jobId)
+                    .withProblemFinder(jobId_ -> problem)
+                    .withConfigOverride(new SolverConfigOverride<Schedule>().withTerminationConfig(terminationConfig))
+                    .withSolverJobStartedConsumer(solution -> {
+                        if (solvingJobStarted.replace(jobId, false, true)) {
+                            jobMetrics.started();
+                        }
+                    })
+                    .withBestSolutionConsumer(solution -> {
+                        if (!solvingJobStarted.containsKey(jobId)) {
+                            return;
+                        }
+                        jobMetrics.bestSolution(solution);
+                        eventPublisher.publishBestSolution(jobId, jobStore.putBestSolution(jobId, solution));
+                    })
+                    .withFinalBestSolutionConsumer(solution -> {
+                        if (solvingJobStarted.remove(jobId) == null) {
+                            // Already ended by terminateSolving()
+                            return;
+                        }
+                        jobMetrics.finished(solution);
+                        ScheduleDelta delta = jobStore.putBestSolution(jobId, solution);
+                        jobStore.markFinished(jobId);
+                        eventPublisher.publishFinished(jobId, delta);
+                        jobScheduler.finished(jobId);
+                        constraintProfiler.profile(jobId, solution);
+                    })
+                    .withExceptionHandler((jobId_, exception) -> {
+                        if (solvingJobStarted.remove(jobId) != null) {
+                            failed(jobId, jobMetrics, exception);
+                        }
+                    })
+                    .run());
+        } catch (RuntimeException e) {
+            // Frees the slot of the job, see JobScheduler.submit()
+            solvingJobStarted.remove(jobId);
+            failed(jobId, jobMetrics, e);
+        }
+    }
+
+    private void failed(String jobId, SolverMetrics.JobMetrics jobMetrics, Throwable exception) {
+        jobMetrics.failed();
+        jobStore.putException(jobId, exception);
+        eventPublisher.publishFailure(jobId, exception);
+        jobScheduler.finished(jobId);
+        LOGGER.error("Failed solving jobId ({}).", jobId, exception);
+    }
+
+    @Operation(summary = "Submit a schedule to solve in consecutive time windows, each with the earlier windows pinned.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202",
+                    description = "The job ID. Use that ID to get the solution with the other methods.",
+                    content = @Content(mediaType = MediaType.TEXT_PLAIN, schema = @Schema(implementation = String.class))),
+            @APIResponse(responseCode = "400", description = "Invalid window options.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "429", description = "The queue of the priority is full. "
+                    + "Retry after the seconds in the Retry-After header.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))) })
+    @POST
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("rolling-horizon")
+    public String solveRollingHorizon(Schedule problem,
+            @Parameter(description = "URGENT for same-day replanning, BATCH for overnight and what-if runs; defaults to NORMAL.")
+            @QueryParam("priority") JobScheduler.Priority priority,
+            @Parameter(description = "The length of a window in days.") @QueryParam("windowDays") Integer windowDays,
+            @Parameter(description = "The days after a window that are solved with it and again with the next window.")
+            @QueryParam("overlapDays") Integer overlapDays,
+            @Parameter(description = "The time to solve a window for, in seconds.") @QueryParam("windowSeconds") Integer windowSeconds,
+            @Parameter(description = "Also solve the whole schedule at once, for the same time in total, and report both.")
+            @QueryParam("compare") boolean compare) {
+        String jobId = UUID.randomUUID().toString();
+        RollingHorizonSolver.Options defaultOptions = rollingHorizonSolver.getDefaultOptions();
+        RollingHorizonSolver.Options options = new RollingHorizonSolver.Options(
+                windowDays == null ? defaultOptions.windowLength() : Duration.ofDays(windowDays),
+                overlapDays == null ? defaultOptions.overlap() : Duration.ofDays(overlapDays),
+                windowSeconds == null ? defaultOptions.windowSpentLimit() : Duration.ofSeconds(windowSeconds),
+                compare);
+        JobScheduler.Priority jobPriority = orDefault(priority);
+        boolean admitted;
+        try {
+            admitted = rollingHorizonSolver.solve(jobId, jobPriority, problem, options);
+        } catch (IllegalArgumentException e) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.BAD_REQUEST, e.getMessage());
+        }
+        if (!admitted) {
+            throw tooManyQueued(jobId, jobPriority);
+        }
+        return jobId;
+    }
+
+    @Operation(summary = "Get the windows solved so far for a rolling-horizon job ID, and the monolithic solve it was compared with.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "200", description = "The rolling-horizon report.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = RollingHorizonReport.class))),
+            @APIResponse(responseCode = "404", description = "No rolling-horizon schedule found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/rolling-horizon")
+    public RollingHorizonReport getRollingHorizonReport(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
+        return rollingHorizonSolver.getReport(jobId)
+                .orElseThrow(() -> new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND,
+                        "No rolling-horizon schedule found."));
     }
 
-    @Operation(summary = "Submit a schedule to start solving as soon as CPU resources are available.")
+    @Operation(summary = "Get what each constraint costs to calculate on the final solution of a job submitted with profile=true.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "200", description = "The constraint profile, incomplete while solving or profiling.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ConstraintProfile.class))),
+            @APIResponse(responseCode = "404", description = "No profiled schedule found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/profile")
+    public ConstraintProfile getConstraintProfile(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
+        return constraintProfiler.getProfile(jobId)
+                .orElseThrow(() -> new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND,
+                        "No profiled schedule found."));
+    }
+
+    @Operation(summary = "Submit a schedule to solve the groups of demands and resources that share no eligible resource "
+            + "as separate solver jobs, at the same time.")
     @APIResponses(value = {
             @APIResponse(responseCode = "202",
                     description = "The job ID. Use that ID to get the solution with the other methods.",
-                    content = @Content(mediaType = MediaType.TEXT_PLAIN, schema = @Schema(implementation = String.class))) })
+                    content = @Content(mediaType = MediaType.TEXT_PLAIN, schema = @Schema(implementation = String.class))),
+            @APIResponse(responseCode = "429", description = "The queue of the priority is full. "
+                    + "Retry after the seconds in the Retry-After header.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))) })
     @POST
     @Consumes({ MediaType.APPLICATION_JSON })
     @Produces(MediaType.TEXT_PLAIN)
-    public String solve(Schedule problem) {
+    @Path("decomposed")
+    public String solveDecomposed(Schedule problem,
+            @Parameter(description = "URGENT for same-day replanning, BATCH for overnight and what-if runs; defaults to NORMAL.")
+            @QueryParam("priority") JobScheduler.Priority priority) {
         String jobId = UUID.randomUUID().toString();
-        jobIdToJob.put(jobId, Job.ofSchedule(problem));
-        solverManager.solveBuilder()
-                .withProblemId(jobId)
-                .withProblemFinder(jobId_ -> jobIdToJob.get(jobId).schedule)
-                .withBestSolutionConsumer(solution -> jobIdToJob.put(jobId, Job.ofSchedule(solution)))
-                .withExceptionHandler((jobId_, exception) -> {
-                    jobIdToJob.put(jobId, Job.ofException(exception));
-                    LOGGER.error("Failed solving jobId ({}).", jobId, exception);
-                })
-                .run();
+        JobScheduler.Priority jobPriority = orDefault(priority);
+        if (!decomposingSolver.solve(jobId, jobPriority, problem)) {
+            throw tooManyQueued(jobId, jobPriority);
+        }
+        return jobId;
+    }
+
+    @Operation(summary = "Submit a schedule to solve for feasibility first, with the soft constraints disabled, "
+            + "and then for the full score. The first feasible schedule is available as soon as it is found.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202",
+                    description = "The job ID. Use that ID to get the solution with the other methods.",
+                    content = @Content(mediaType = MediaType.TEXT_PLAIN, schema = @Schema(implementation = String.class))),
+            @APIResponse(responseCode = "429", description = "The queue of the priority is full. "
+                    + "Retry after the seconds in the Retry-After header.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))) })
+    @POST
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("phased")
+    public String solvePhased(Schedule problem,
+            @Parameter(description = "URGENT for same-day replanning, BATCH for overnight and what-if runs; defaults to NORMAL.")
+            @QueryParam("priority") JobScheduler.Priority priority) {
+        String jobId = UUID.randomUUID().toString();
+        JobScheduler.Priority jobPriority = orDefault(priority);
+        if (!phasedSolver.solve(jobId, jobPriority, problem)) {
+            throw tooManyQueued(jobId, jobPriority);
+        }
         return jobId;
     }
 
@@ -102,17 +377,20 @@ public class EmployeeScheduleResource {
     @Consumes({ MediaType.APPLICATION_JSON })
     @Produces(MediaType.APPLICATION_JSON)
     @Path("analyze")
-    public ScoreAnalysis<HardSoftBigDecimalScore> analyze(Schedule problem,
+    public ScoreAnalysis<HardMediumSoftLongScore> analyze(Schedule problem,
             @QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
     @Operation(
-            summary = "Get the solution and score for a given job ID. This is the best solution so far, as it might still be running or not even started.")
+            summary = "Get the solution and score for a given job ID. This is the best solution so far, as it might still be running or not even started. "
+                    + "With since, only get the assignments that changed after that version.")
     @APIResponses(value = {
-            @APIResponse(responseCode = "200", description = "The best solution of the schedule so far.",
+            @APIResponse(responseCode = "200",
+                    description = "The best solution of the schedule so far, with its version in the " + SCHEDULE_VERSION_HEADER + " header, "
+                            + "or with since, the changes up to that solution.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON,
-                            schema = @Schema(implementation = Schedule.class))),
+                            schema = @Schema(oneOf = { Schedule.class, ScheduleDelta.class }))),
             @APIResponse(responseCode = "404", description = "No schedule found.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON,
                             schema = @Schema(implementation = ErrorInfo.class))),
@@ -123,23 +401,52 @@ public class EmployeeScheduleResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @Path("{jobId}")
-    public Schedule getEmployeeSchedule(
-            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
+    public Response getEmployeeSchedule(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            @Parameter(description = "The version the client already has, from the " + SCHEDULE_VERSION_HEADER
+                    + " header or an earlier delta.") @QueryParam("since") Long sinceVersion) {
+        if (sinceVersion != null) {
+            ScheduleDelta delta = getScheduleDelta(jobId, sinceVersion);
+            return Response.ok(delta).header(SCHEDULE_VERSION_HEADER, delta.version()).build();
+        }
+        JobStore.Job job = getJobAndCheckForExceptions(jobId);
+        Schedule schedule = job.schedule();
+        schedule.setSolverStatus(getSolverStatus(jobId));
+        return Response.ok(schedule).header(SCHEDULE_VERSION_HEADER, job.version()).build();
+    }
+
+    private Schedule getEmployeeScheduleWithStatus(String jobId) {
         Schedule schedule = getEmployeeScheduleAndCheckForExceptions(jobId);
-        SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
+        SolverStatus solverStatus = getSolverStatus(jobId);
         schedule.setSolverStatus(solverStatus);
         return schedule;
     }
 
-    private Schedule getEmployeeScheduleAndCheckForExceptions(String jobId) {
-        Job job = jobIdToJob.get(jobId);
-        if (job == null) {
-            throw new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND, "No schedule found.");
+    private ScheduleDelta getScheduleDelta(String jobId, long sinceVersion) {
+        getJobAndCheckForExceptions(jobId);
+        return jobStore.getDelta(jobId, sinceVersion)
+                .orElseThrow(() -> new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND, "No schedule found."))
+                .withSolverStatus(getSolverStatus(jobId));
+    }
+
+    private SolverStatus getSolverStatus(String jobId) {
+        if (jobScheduler.getQueuePosition(jobId).isPresent()) {
+            return SolverStatus.SOLVING_SCHEDULED;
         }
-        if (job.exception != null) {
-            throw new EmployeeScheduleSolverException(jobId, job.exception);
+        return solverRuns.getSolverStatus(jobId).orElseGet(() -> solverManager.getSolverStatus(jobId));
+    }
+
+    private Schedule getEmployeeScheduleAndCheckForExceptions(String jobId) {
+        return getJobAndCheckForExceptions(jobId).schedule();
+    }
+
+    private JobStore.Job getJobAndCheckForExceptions(String jobId) {
+        JobStore.Job job = jobStore.get(jobId)
+                .orElseThrow(() -> new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND, "No schedule found."));
+        if (job.exception() != null) {
+            throw new EmployeeScheduleSolverException(jobId, job.exception());
         }
-        return job.schedule;
+        return job;
     }
 
     @Operation(
@@ -160,15 +467,38 @@ public class EmployeeScheduleResource {
     @Path("{jobId}")
     public Schedule terminateSolving(
             @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
+        if (jobScheduler.cancel(jobId)) {
+            endUnstarted(jobId);
+            return getEmployeeScheduleWithStatus(jobId);
+        }
         // TODO: Replace with .terminateEarlyAndWait(... [, timeout]); see https://github.com/TimefoldAI/timefold-solver/issues/77
-        solverManager.terminateEarly(jobId);
-        return getEmployeeSchedule(jobId);
+        if (!solverRuns.terminateEarly(jobId)) {
+            // Decided before terminating, so the solver job cannot start in between
+            boolean unstarted = solvingJobStarted.remove(jobId, false);
+            solverManager.terminateEarly(jobId);
+            if (unstarted) {
+                // A solver job terminated before it started never calls back, and its late callbacks are ignored
+                endUnstarted(jobId);
+                jobScheduler.finished(jobId);
+            } else {
+                solverMetrics.terminatedEarly(jobId);
+            }
+        }
+        return getEmployeeScheduleWithStatus(jobId);
+    }
+
+    // Ends a job that never started solving with its problem as the final solution
+    private void endUnstarted(String jobId) {
+        solverMetrics.cancelled(jobId);
+        jobStore.markFinished(jobId);
+        jobStore.getDelta(jobId, 0L).ifPresent(delta -> eventPublisher.publishFinished(jobId, delta));
     }
 
     @Operation(
-            summary = "Get the schedule status and score for a given job ID.")
+            summary = "Get the schedule status and score for a given job ID, and its position in the queue while it waits to start.")
     @APIResponses(value = {
-            @APIResponse(responseCode = "200", description = "The schedule status and the best score so far.",
+            @APIResponse(responseCode = "200", description = "The schedule status, the best score so far and the queue position, "
+                    + "1 for the next schedule to start.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON,
                             schema = @Schema(implementation = Schedule.class))),
             @APIResponse(responseCode = "404", description = "No schedule found.",
@@ -184,18 +514,226 @@ public class EmployeeScheduleResource {
     public Schedule getStatus(
             @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
         Schedule schedule = getEmployeeScheduleAndCheckForExceptions(jobId);
-        SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
-        return new Schedule(schedule.getScore(), solverStatus);
+        SolverStatus solverStatus = getSolverStatus(jobId);
+        Schedule status = new Schedule(schedule.getScore(), solverStatus);
+        jobScheduler.getQueuePosition(jobId).ifPresent(status::setQueuePosition);
+        return status;
+    }
+
+    @Operation(
+            summary = "Stream the score, the solver status and the changed assignments of every new best solution as Server-Sent Events, until solving ends.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "200", description = "A stream of bestSolution events, or a failure event if solving fails.",
+                    content = @Content(mediaType = MediaType.SERVER_SENT_EVENTS,
+                            schema = @Schema(implementation = ScheduleDelta.class))),
+            @APIResponse(responseCode = "404", description = "No schedule found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Path("{jobId}/events")
+    public void streamEvents(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            @Parameter(description = "The version the client already has. The first event holds the changes after it; "
+                    + "without it, the first event holds every assignment.") @QueryParam("since") Long sinceVersion,
+            @Context SseEventSink sink, @Context Sse sse) {
+        getJobAndCheckForExceptions(jobId);
+        eventPublisher.subscribe(jobId, () -> getScheduleDelta(jobId, sinceVersion == null ? -1L : sinceVersion), sink, sse);
+    }
+
+    @Operation(summary = "Add a demand to a schedule that is being solved. The solver assigns it without restarting.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The change is queued for the solver."),
+            @APIResponse(responseCode = "404", description = "No schedule found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "409", description = "The schedule is not being solved or already has the demand.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/demands")
+    public Response addDemand(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            Demand demand) {
+        checkDemandTimes(jobId, demand);
+        if (demand.getId() == null) {
+            demand.setId(UUID.randomUUID().toString());
+        } else if (findDemand(jobId, demand.getId()) != null) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.CONFLICT,
+                    "The schedule already has a demand with ID (" + demand.getId() + ").");
+        }
+        return addProblemChange(jobId, new AddDemandProblemChange(demand));
+    }
+
+    @Operation(summary = "Change the time, construction site or requirements of a demand of a schedule that is being solved.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The change is queued for the solver."),
+            @APIResponse(responseCode = "404", description = "No schedule or demand found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "409", description = "The schedule is not being solved.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @PUT
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/demands/{demandId}")
+    public Response changeDemand(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            @PathParam("demandId") String demandId,
+            Demand demand) {
+        checkDemandTimes(jobId, demand);
+        checkDemandExists(jobId, demandId);
+        demand.setId(demandId);
+        return addProblemChange(jobId, new ChangeDemandProblemChange(demand));
+    }
+
+    @Operation(summary = "Remove a cancelled demand from a schedule that is being solved.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The change is queued for the solver."),
+            @APIResponse(responseCode = "404", description = "No schedule or demand found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "409", description = "The schedule is not being solved.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @DELETE
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/demands/{demandId}")
+    public Response removeDemand(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            @PathParam("demandId") String demandId) {
+        checkDemandExists(jobId, demandId);
+        return addProblemChange(jobId, new RemoveDemandProblemChange(demandId));
+    }
+
+    @Operation(summary = "Add a resource to a schedule that is being solved.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The change is queued for the solver."),
+            @APIResponse(responseCode = "404", description = "No schedule found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "409", description = "The schedule is not being solved or already has the resource.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/resources")
+    public Response addResource(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            Resource resource) {
+        if (resource == null || resource.getName() == null) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.BAD_REQUEST, "The resource has no name.");
+        }
+        if (findResource(jobId, resource.getName()) != null) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.CONFLICT,
+                    "The schedule already has a resource named (" + resource.getName() + ").");
+        }
+        return addProblemChange(jobId, new AddResourceProblemChange(resource));
     }
 
-    private record Job(Schedule schedule, Throwable exception) {
+    @Operation(summary = "Remove a resource from a schedule that is being solved. Its demands are reassigned.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The change is queued for the solver."),
+            @APIResponse(responseCode = "404", description = "No schedule or resource found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "409", description = "The schedule is not being solved.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @DELETE
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/resources/{resourceName}")
+    public Response removeResource(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            @PathParam("resourceName") String resourceName) {
+        checkResourceExists(jobId, resourceName);
+        return addProblemChange(jobId, new RemoveResourceProblemChange(resourceName));
+    }
 
-        static Job ofSchedule(Schedule schedule) {
-            return new Job(schedule, null);
+    @Operation(summary = "Mark a resource of a schedule that is being solved as unavailable on additional dates.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The change is queued for the solver."),
+            @APIResponse(responseCode = "400", description = "No dates given.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "404", description = "No schedule or resource found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "409", description = "The schedule is not being solved.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/resources/{resourceName}/unavailable-dates")
+    public Response addUnavailableDates(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId,
+            @PathParam("resourceName") String resourceName,
+            Set<LocalDate> dates) {
+        if (dates == null || dates.isEmpty() || dates.contains(null)) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.BAD_REQUEST,
+                    "The dates must be a non-empty array of dates.");
+        }
+        checkResourceExists(jobId, resourceName);
+        return addProblemChange(jobId, new AddUnavailableDatesProblemChange(resourceName, Set.copyOf(dates)));
+    }
+
+    private Response addProblemChange(String jobId, ProblemChange<Schedule> problemChange) {
+        getEmployeeScheduleAndCheckForExceptions(jobId);
+        // Rolling-horizon and decomposed jobs solve under other problem IDs, so they take no problem changes
+        if (solverManager.getSolverStatus(jobId) == SolverStatus.NOT_SOLVING) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.CONFLICT, "The schedule is not being solved.");
+        }
+        try {
+            solverManager.addProblemChange(jobId, problemChange);
+        } catch (IllegalStateException e) {
+            // The solver finished after the status check
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.CONFLICT, "The schedule is not being solved.");
         }
+        return Response.accepted().build();
+    }
+
+    private static void checkDemandTimes(String jobId, Demand demand) {
+        if (demand == null || demand.getStart() == null || demand.getEnd() == null || !demand.getStart().isBefore(demand.getEnd())) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.BAD_REQUEST, "The demand must start before it ends.");
+        }
+    }
+
+    // Looks in the best solution so far, which lacks the effect of changes that are still queued
+    private Demand findDemand(String jobId, String demandId) {
+        return getEmployeeScheduleAndCheckForExceptions(jobId).getDemands().stream()
+                .filter(demand -> demand.getId().equals(demandId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void checkDemandExists(String jobId, String demandId) {
+        if (findDemand(jobId, demandId) == null) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND, "No demand with ID (" + demandId + ").");
+        }
+    }
+
+    private Resource findResource(String jobId, String resourceName) {
+        return getEmployeeScheduleAndCheckForExceptions(jobId).getResources().stream()
+                .filter(resource -> resource.getName().equals(resourceName))
+                .findFirst()
+                .orElse(null);
+    }
 
-        static Job ofException(Throwable error) {
-            return new Job(null, error);
+    private void checkResourceExists(String jobId, String resourceName) {
+        if (findResource(jobId, resourceName) == null) {
+            throw new EmployeeScheduleSolverException(jobId, Response.Status.NOT_FOUND, "No resource named (" + resourceName + ").");
         }
     }
 }
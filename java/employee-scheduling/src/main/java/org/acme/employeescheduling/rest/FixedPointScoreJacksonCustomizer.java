@@ -0,0 +1,108 @@
+package org.acme.employeescheduling.rest;
+
+import java.io.IOException;
+
+import jakarta.inject.Singleton;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.analysis.MatchAnalysis;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+
+import org.acme.employeescheduling.domain.FixedPointScore;
+
+/**
+ * Shows scores in points instead of the fixed-point units the solver calculates in, see {@link FixedPointScore}:
+ * the score of a schedule, and every score and weight of a score analysis.
+ * <p>
+ * Runs after the Timefold Jackson module is registered, so these serializers take precedence.
+ * The score analysis keeps the JSON layout of the Timefold serializer.
+ */
+@Singleton
+public class FixedPointScoreJacksonCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public int priority() {
+        return DEFAULT_PRIORITY - 1;
+    }
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.registerModule(createModule());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static SimpleModule createModule() {
+        SimpleModule module = new SimpleModule("FixedPointScore");
+        module.addSerializer(HardMediumSoftLongScore.class, new ScoreSerializer());
+        module.addDeserializer(HardMediumSoftLongScore.class, new ScoreDeserializer());
+        module.addSerializer((Class) ScoreAnalysis.class, new ScoreAnalysisSerializer());
+        return module;
+    }
+
+    private static String format(Score<?> score) {
+        return score instanceof HardMediumSoftLongScore fixedPointScore ? FixedPointScore.format(fixedPointScore)
+                : score.toString();
+    }
+
+    private static final class ScoreSerializer extends JsonSerializer<HardMediumSoftLongScore> {
+
+        @Override
+        public void serialize(HardMediumSoftLongScore score, JsonGenerator generator, SerializerProvider serializers)
+                throws IOException {
+            generator.writeString(FixedPointScore.format(score));
+        }
+    }
+
+    private static final class ScoreDeserializer extends JsonDeserializer<HardMediumSoftLongScore> {
+
+        @Override
+        public HardMediumSoftLongScore deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return FixedPointScore.parse(parser.getValueAsString());
+        }
+    }
+
+    private static final class ScoreAnalysisSerializer extends JsonSerializer<ScoreAnalysis<?>> {
+
+        @Override
+        public void serialize(ScoreAnalysis<?> scoreAnalysis, JsonGenerator generator, SerializerProvider serializers)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("score", format(scoreAnalysis.score()));
+            generator.writeArrayFieldStart("constraints");
+            for (ConstraintAnalysis<?> constraintAnalysis : scoreAnalysis.constraintAnalyses()) {
+                generator.writeStartObject();
+                generator.writeStringField("package", constraintAnalysis.constraintRef().packageName());
+                generator.writeStringField("name", constraintAnalysis.constraintRef().constraintName());
+                generator.writeStringField("weight", format(constraintAnalysis.weight()));
+                generator.writeStringField("score", format(constraintAnalysis.score()));
+                if (constraintAnalysis.matches() != null) {
+                    generator.writeArrayFieldStart("matches");
+                    for (MatchAnalysis<?> matchAnalysis : constraintAnalysis.matches()) {
+                        generator.writeStartObject();
+                        generator.writeStringField("score", format(matchAnalysis.score()));
+                        serializers.defaultSerializeField("justification", matchAnalysis.justification(), generator);
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndArray();
+                    generator.writeNumberField("matchCount", constraintAnalysis.matches().size());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admits solver jobs by priority, in front of the {@code SolverManager}.
+ * <p>
+ * At most {@code max-running-jobs} admitted jobs are handed to the {@code SolverManager} at a time, so they never wait
+ * inside it, where every job is first come, first served. The others wait here, in one queue per {@link Priority}:
+ * a job starts once no job of a higher priority waits and the jobs of its own priority before it have started.
+ * Each queue holds at most {@code max-queued-jobs}, so a batch of what-if runs cannot crowd out urgent replans.
+ * <p>
+ * A job that solves several solver jobs at the same time takes a slot for each, see {@link #submit(String, Priority, int,
+ * Runnable, Runnable)}. It waits until all its slots are free; the jobs queued after it wait too, so it is not starved.
+ */
+@ApplicationScoped
+public class JobScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobScheduler.class);
+
+    // Weight of the last solve duration in the average that estimates when a slot frees up
+    private static final double SOLVE_DURATION_SMOOTHING = 0.2;
+
+    public enum Priority {
+        /**
+         * Same-day replanning, for example after a resource called in sick.
+         */
+        URGENT,
+        NORMAL,
+        /**
+         * Overnight and what-if runs.
+         */
+        BATCH
+    }
+
+    private final int maxRunningJobs;
+    private final int maxQueuedJobs;
+
+    // Guarded by this
+    private final Map<Priority, Deque<QueuedJob>> queues = new EnumMap<>(Priority.class);
+    private final Map<String, RunningJob> runningJobs = new HashMap<>();
+    private int usedSlots = 0;
+    private double averageSolveMillis;
+
+    @Inject
+    public JobScheduler(
+            @ConfigProperty(name = "employee-scheduling.scheduler.max-running-jobs", defaultValue = "4") int maxRunningJobs,
+            @ConfigProperty(name = "employee-scheduling.scheduler.max-queued-jobs", defaultValue = "50") int maxQueuedJobs,
+            @ConfigProperty(name = "employee-scheduling.scheduler.expected-solve-duration",
+                    defaultValue = "30s") Duration expectedSolveDuration) {
+        if (maxRunningJobs < 1) {
+            throw new IllegalArgumentException("The maxRunningJobs (" + maxRunningJobs + ") must be at least 1.");
+        }
+        this.maxRunningJobs = maxRunningJobs;
+        this.maxQueuedJobs = maxQueuedJobs;
+        this.averageSolveMillis = expectedSolveDuration.toMillis();
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Starts the job now if a slot is free, or queues it.
+     * Call {@link #finished(String)} when it stops solving, however it stops.
+     *
+     * @param admit registers the job, so it is known before it starts; runs only if the job is admitted
+     * @param start hands the job to the {@code SolverManager}; if it throws, the job is dropped
+     * @return false if the queue of the priority is full; the job is then neither started nor queued
+     */
+    public boolean submit(String jobId, Priority priority, Runnable admit, Runnable start) {
+        return submit(jobId, priority, 1, admit, start);
+    }
+
+    /**
+     * Like {@link #submit(String, Priority, Runnable, Runnable)}, for a job that solves several solver jobs at once.
+     *
+     * @param slots how many solver jobs the job solves at the same time, at most {@link #getMaxRunningJobs()}
+     */
+    public synchronized boolean submit(String jobId, Priority priority, int slots, Runnable admit, Runnable start) {
+        if (slots < 1 || slots > maxRunningJobs) {
+            throw new IllegalArgumentException("The slots (" + slots + ") of jobId (" + jobId
+                    + ") must be between 1 and the maxRunningJobs (" + maxRunningJobs + ").");
+        }
+        Deque<QueuedJob> queue = queues.get(priority);
+        boolean startNow = usedSlots + slots <= maxRunningJobs && !isAnyQueued(priority);
+        if (!startNow && queue.size() >= maxQueuedJobs) {
+            return false;
+        }
+        admit.run();
+        if (startNow) {
+            startJob(new QueuedJob(jobId, slots, start));
+        } else {
+            queue.addLast(new QueuedJob(jobId, slots, start));
+        }
+        return true;
+    }
+
+    /**
+     * Frees the slot of a started job and starts the next queued one.
+     */
+    public synchronized void finished(String jobId) {
+        RunningJob runningJob = runningJobs.remove(jobId);
+        if (runningJob == null) {
+            return;
+        }
+        usedSlots -= runningJob.slots();
+        long solveMillis = System.currentTimeMillis() - runningJob.startMillis();
+        averageSolveMillis += SOLVE_DURATION_SMOOTHING * (solveMillis - averageSolveMillis);
+        startQueuedJobs();
+    }
+
+    /**
+     * Removes a job that has not started yet.
+     *
+     * @return false if the job is not queued
+     */
+    public synchronized boolean cancel(String jobId) {
+        for (Deque<QueuedJob> queue : queues.values()) {
+            Iterator<QueuedJob> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().jobId().equals(jobId)) {
+                    iterator.remove();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 1 if the job starts next, empty if it is not queued
+     */
+    public synchronized OptionalInt getQueuePosition(String jobId) {
+        int position = 1;
+        for (Priority priority : Priority.values()) {
+            for (QueuedJob queuedJob : queues.get(priority)) {
+                if (queuedJob.jobId().equals(jobId)) {
+                    return OptionalInt.of(position);
+                }
+                position++;
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    public int getMaxRunningJobs() {
+        return maxRunningJobs;
+    }
+
+    /**
+     * @return a rough wait before a full queue has room again: the time until the next running job is expected to end
+     */
+    public synchronized Duration getRetryAfter() {
+        return Duration.ofSeconds(Math.max(1L, (long) Math.ceil(averageSolveMillis / maxRunningJobs / 1000.0)));
+    }
+
+    private boolean isAnyQueued(Priority maxPriority) {
+        for (Priority priority : Priority.values()) {
+            if (!queues.get(priority).isEmpty()) {
+                return true;
+            }
+            if (priority == maxPriority) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // Stops at the first job that does not fit, so the jobs after it cannot keep taking the slots it waits for
+    private void startQueuedJobs() {
+        for (Priority priority : Priority.values()) {
+            Deque<QueuedJob> queue = queues.get(priority);
+            while (!queue.isEmpty()) {
+                if (usedSlots + queue.getFirst().slots() > maxRunningJobs) {
+                    return;
+                }
+                startJob(queue.removeFirst());
+            }
+        }
+    }
+
+    // Starts under the lock, so the job is never neither queued nor running;
+    // the SolverManager calls back on its own threads, so this does not deadlock
+    private void startJob(QueuedJob queuedJob) {
+        runningJobs.put(queuedJob.jobId(), new RunningJob(System.currentTimeMillis(), queuedJob.slots()));
+        usedSlots += queuedJob.slots();
+        try {
+            queuedJob.start().run();
+        } catch (RuntimeException e) {
+            runningJobs.remove(queuedJob.jobId());
+            usedSlots -= queuedJob.slots();
+            LOGGER.error("Failed starting jobId ({}).", queuedJob.jobId(), e);
+        }
+    }
+
+    private record QueuedJob(String jobId, int slots, Runnable start) {
+    }
+
+    private record RunningJob(long startMillis, int slots) {
+    }
+}
@@ -0,0 +1,371 @@
+package org.acme.employeescheduling.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.runtime.configuration.MemorySize;
+
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the submitted schedules by job ID, within bounds.
+ * <p>
+ * Jobs that are still solving always stay in memory.
+ * Finished jobs are spilled to gzipped JSON files, least recently accessed first,
+ * when more than {@code max-entries} finished jobs or more than {@code heap-budget} of estimated schedule size are in memory.
+ * A spilled job is loaded back on its next access.
+ * Finished jobs that have not been accessed for {@code ttl} are dropped, from memory and from disk.
+ * Each store spills into its own new subdirectory of {@code spill-directory}, which it deletes on shutdown,
+ * so several instances can share the directory.
+ */
+@ApplicationScoped
+public class JobStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobStore.class);
+
+    private static final String SPILL_FILE_SUFFIX = ".json.gz";
+    // Rough retained sizes of the domain objects, including their collections and derived fields
+    private static final long ESTIMATED_SCHEDULE_BYTES = 1024;
+    private static final long ESTIMATED_DEMAND_BYTES = 512;
+    private static final long ESTIMATED_RESOURCE_BYTES = 1024;
+    private static final long ESTIMATED_DATE_BYTES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long heapBudgetBytes;
+    private final Duration ttl;
+    private final Path spillDirectory;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Inject
+    public JobStore(ObjectMapper objectMapper,
+            @ConfigProperty(name = "employee-scheduling.job-store.max-entries", defaultValue = "100") int maxEntries,
+            @ConfigProperty(name = "employee-scheduling.job-store.heap-budget", defaultValue = "512M") MemorySize heapBudget,
+            @ConfigProperty(name = "employee-scheduling.job-store.ttl", defaultValue = "P7D") Duration ttl,
+            @ConfigProperty(name = "employee-scheduling.job-store.spill-directory") Optional<Path> spillDirectory) {
+        this(objectMapper, maxEntries, heapBudget.asLongValue(), ttl,
+                spillDirectory.orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir"), "employee-scheduling-jobs")),
+                Clock.systemUTC());
+    }
+
+    /**
+     * @param spillDirectory the parent of the directory this store spills into
+     */
+    JobStore(ObjectMapper objectMapper, int maxEntries, long heapBudgetBytes, Duration ttl, Path spillDirectory, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.heapBudgetBytes = heapBudgetBytes;
+        this.ttl = ttl;
+        this.clock = clock;
+        try {
+            Files.createDirectories(spillDirectory);
+            this.spillDirectory = Files.createTempDirectory(spillDirectory, "jobs-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed preparing the job spill directory (" + spillDirectory + ").", e);
+        }
+    }
+
+    /**
+     * Deletes the spill files, which no other store can look up.
+     */
+    @PreDestroy
+    void close() {
+        try (DirectoryStream<Path> spillFiles = Files.newDirectoryStream(spillDirectory)) {
+            for (Path spillFile : spillFiles) {
+                Files.deleteIfExists(spillFile);
+            }
+            Files.deleteIfExists(spillDirectory);
+        } catch (IOException e) {
+            LOGGER.warn("Failed deleting the job spill directory ({}).", spillDirectory, e);
+        }
+    }
+
+    Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * The schedule of a job or the exception that made it fail.
+     *
+     * @param version of the schedule, see {@link ScheduleDelta}
+     */
+    public record Job(Schedule schedule, Throwable exception, long version) {
+
+        static Job ofSchedule(Schedule schedule, long version) {
+            return new Job(schedule, null, version);
+        }
+
+        static Job ofException(Throwable error, long version) {
+            return new Job(null, error, version);
+        }
+    }
+
+    public Collection<String> jobIds() {
+        evictExpired();
+        return entries.keySet();
+    }
+
+    /**
+     * Jobs held, in memory or spilled to disk, without evicting expired ones first.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public Optional<Job> get(String jobId) {
+        return Optional.ofNullable(load(jobId)).map(entry -> entry.job);
+    }
+
+    /**
+     * @return the assignments that changed after the given version, up to the latest version
+     */
+    public Optional<ScheduleDelta> getDelta(String jobId, long sinceVersion) {
+        Entry entry = load(jobId);
+        if (entry == null || entry.job.schedule() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.versions.since(sinceVersion, entry.job.schedule()));
+    }
+
+    // The spill file I/O runs outside the map operations, which would block every other access to the same bin
+    private Entry load(String jobId) {
+        Entry entry;
+        do {
+            Entry current = entries.get(jobId);
+            if (current == null) {
+                return null;
+            }
+            if (isExpired(current)) {
+                if (entries.remove(jobId, current)) {
+                    deleteSpillFile(jobId);
+                }
+                return null;
+            }
+            Schedule reloadedSchedule = null;
+            if (current.job == null) {
+                try {
+                    reloadedSchedule = readSpillFile(jobId);
+                } catch (UncheckedIOException e) {
+                    if (!entries.containsKey(jobId)) {
+                        // Expired while reading
+                        return null;
+                    }
+                    throw e;
+                }
+            }
+            Schedule loadedSchedule = reloadedSchedule;
+            entry = entries.computeIfPresent(jobId, (id, latest) -> {
+                Job job = latest.job != null || loadedSchedule == null ? latest.job
+                        : Job.ofSchedule(loadedSchedule, latest.versions.getVersion());
+                return new Entry(job, latest.finished, now(), latest.versions);
+            });
+            // Retries if it was spilled meanwhile
+        } while (entry != null && entry.job == null);
+        if (entry != null && entry.finished) {
+            // A reload may push the finished jobs over their bounds again
+            enforceBounds();
+        }
+        return entry;
+    }
+
+    /**
+     * Registers a new job with its problem as version 0.
+     */
+    public void putProblem(String jobId, Schedule problem) {
+        entries.put(jobId, new Entry(Job.ofSchedule(problem, 0L), false, now(), AssignmentVersions.of(problem)));
+    }
+
+    /**
+     * Replaces the schedule of a job that is still solving by its next version.
+     *
+     * @return the changes since the previous version
+     */
+    public ScheduleDelta putBestSolution(String jobId, Schedule solution) {
+        ScheduleDelta[] delta = new ScheduleDelta[1];
+        entries.compute(jobId, (id, current) -> {
+            AssignmentVersions versions = current == null ? new AssignmentVersions() : current.versions;
+            delta[0] = versions.update(solution);
+            return new Entry(Job.ofSchedule(solution, delta[0].version()), false, now(), versions);
+        });
+        return delta[0];
+    }
+
+    public void putException(String jobId, Throwable exception) {
+        entries.compute(jobId, (id, current) -> {
+            AssignmentVersions versions = current == null ? new AssignmentVersions() : current.versions;
+            return new Entry(Job.ofException(exception, versions.getVersion()), true, now(), versions);
+        });
+        evictExpired();
+    }
+
+    /**
+     * Marks a job as no longer solving, so it may be spilled to disk and expire.
+     */
+    public void markFinished(String jobId) {
+        entries.computeIfPresent(jobId, (id, current) -> new Entry(current.job, true, now(), current.versions));
+        evictExpired();
+        enforceBounds();
+    }
+
+    private synchronized void evictExpired() {
+        entries.forEach((jobId, entry) -> {
+            if (isExpired(entry) && entries.remove(jobId, entry)) {
+                deleteSpillFile(jobId);
+                LOGGER.debug("Evicted expired jobId ({}).", jobId);
+            }
+        });
+    }
+
+    private synchronized void enforceBounds() {
+        List<SpillCandidate> candidates = new ArrayList<>();
+        int inMemoryCount = 0;
+        long inMemoryBytes = 0L;
+        for (var mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            if (entry.finished && entry.job != null && entry.job.schedule() != null) {
+                candidates.add(new SpillCandidate(mapEntry.getKey(), entry.lastAccessMillis));
+                inMemoryCount++;
+                inMemoryBytes += entry.estimatedBytes;
+            }
+        }
+        if (inMemoryCount <= maxEntries && inMemoryBytes <= heapBudgetBytes) {
+            return;
+        }
+        candidates.sort(Comparator.comparingLong(SpillCandidate::lastAccessMillis));
+        for (SpillCandidate candidate : candidates) {
+            String jobId = candidate.jobId();
+            if (inMemoryCount <= maxEntries && inMemoryBytes <= heapBudgetBytes) {
+                break;
+            }
+            Entry current = entries.get(jobId);
+            if (current == null || !current.finished || current.job == null || current.job.schedule() == null) {
+                continue;
+            }
+            writeSpillFile(jobId, current.job.schedule());
+            // Only if it was not accessed meanwhile; an unused spill file is overwritten by the next spill
+            if (entries.replace(jobId, current, new Entry(null, true, current.lastAccessMillis, current.versions))) {
+                // A spilled job answers delta requests with all its assignments
+                current.versions.compact();
+                inMemoryCount--;
+                inMemoryBytes -= current.estimatedBytes;
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return entry.finished && now() - entry.lastAccessMillis > ttl.toMillis();
+    }
+
+    private long now() {
+        return clock.millis();
+    }
+
+    private Path spillFile(String jobId) {
+        return spillDirectory.resolve(jobId + SPILL_FILE_SUFFIX);
+    }
+
+    // Writes next to the spill file and moves it in place, so a concurrent reload never reads a partial file
+    private void writeSpillFile(String jobId, Schedule schedule) {
+        Path spillFile = spillFile(jobId);
+        Path partialFile = spillFile.resolveSibling(spillFile.getFileName() + ".partial");
+        try {
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(partialFile))) {
+                objectMapper.writeValue(outputStream, schedule);
+            }
+            Files.move(partialFile, spillFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed spilling jobId (" + jobId + ") to disk.", e);
+        }
+    }
+
+    private Schedule readSpillFile(String jobId) {
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(spillFile(jobId)))) {
+            // Derived properties, such as isAssigned(), are written but have no setter
+            return objectMapper.readerFor(Schedule.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed loading jobId (" + jobId + ") from disk.", e);
+        }
+    }
+
+    private void deleteSpillFile(String jobId) {
+        try {
+            Files.deleteIfExists(spillFile(jobId));
+        } catch (IOException e) {
+            LOGGER.warn("Failed deleting the spill file of jobId ({}).", jobId, e);
+        }
+    }
+
+    static long estimateBytes(Schedule schedule) {
+        long bytes = ESTIMATED_SCHEDULE_BYTES;
+        if (schedule.getDemands() != null) {
+            bytes += schedule.getDemands().size() * ESTIMATED_DEMAND_BYTES;
+        }
+        if (schedule.getResources() != null) {
+            for (Resource resource : schedule.getResources()) {
+                bytes += ESTIMATED_RESOURCE_BYTES;
+                if (resource.getUnavailableDates() != null) {
+                    bytes += resource.getUnavailableDates().size() * ESTIMATED_DATE_BYTES;
+                }
+                if (resource.getUndesiredDates() != null) {
+                    bytes += resource.getUndesiredDates().size() * ESTIMATED_DATE_BYTES;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private record SpillCandidate(String jobId, long lastAccessMillis) {
+    }
+
+    /**
+     * @param job null while spilled to disk
+     */
+    private static final class Entry {
+
+        final Job job;
+        final boolean finished;
+        final long lastAccessMillis;
+        final AssignmentVersions versions;
+        final long estimatedBytes;
+
+        Entry(Job job, boolean finished, long lastAccessMillis, AssignmentVersions versions) {
+            this.job = job;
+            this.finished = finished;
+            this.lastAccessMillis = lastAccessMillis;
+            this.versions = versions;
+            this.estimatedBytes = job == null || job.schedule() == null ? 0L : estimateBytes(job.schedule());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.net.URL;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 public class PersonaDataProvider {
 
@@ -37,16 +38,18 @@ public class PersonaDataProvider {
             var records = parser.getRecords();
             for (CSVRecord csvRecord : records) {
                 Resource resource = new Resource();
-                resource.setQualifications(new HashSet<>());
+                Set<String> qualifications = new HashSet<>();
                 try {
                     resource.setName(Integer.toString(currentId++));
                     resource.setResourceCategory(csvRecord.get("RESOURCECATEGORY_NAME"));
                     for (int i = 1; i <= 25; i++) {
                         String qualification = csvRecord.get("Q" + i);
                         if (!StringUtil.isNullOrEmpty(qualification)) {
-                            resource.getQualifications().add(qualification);
+                            qualifications.add(qualification);
                         }
                     }
+                    // set after collecting, so the qualification mask is encoded from the full set
+                    resource.setQualifications(qualifications);
                     personas.add(resource);
                 } catch (Exception e) {
                     wrongLines++;
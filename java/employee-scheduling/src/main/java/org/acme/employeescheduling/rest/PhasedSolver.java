@@ -0,0 +1,100 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.domain.solution.ConstraintWeightOverrides;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverJob;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.domain.Schedule;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Solves a schedule in two solver jobs: first for feasibility only, then for the full score.
+ * <p>
+ * The feasibility phase runs with the soft constraints disabled through {@link ConstraintWeightOverrides},
+ * so the solver spends all its moves on the hard and medium levels, and stops as soon as no hard constraint is broken.
+ * Its solution is published through the {@link JobStore} and the {@link ScheduleEventPublisher} right away.
+ * The optimization phase starts from that solution with every constraint, publishes each new best solution,
+ * and stops like any other job, see {@link AdaptiveTermination}.
+ */
+@ApplicationScoped
+public class PhasedSolver {
+
+    static final String FEASIBLE_SCORE_LIMIT = "0hard/*medium/*soft";
+
+    private final SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager;
+    private final SolverRuns solverRuns;
+    private final AdaptiveTermination adaptiveTermination;
+    private final Duration feasibilitySpentLimit;
+
+    @Inject
+    public PhasedSolver(SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager, SolverRuns solverRuns,
+            AdaptiveTermination adaptiveTermination,
+            @ConfigProperty(name = "employee-scheduling.phased.feasibility-spent-limit",
+                    defaultValue = "10s") Duration feasibilitySpentLimit) {
+        this.solutionManager = solutionManager;
+        this.solverRuns = solverRuns;
+        this.adaptiveTermination = adaptiveTermination;
+        this.feasibilitySpentLimit = feasibilitySpentLimit;
+    }
+
+    /**
+     * Starts solving in the background, once the {@link JobScheduler} has a slot free.
+     *
+     * @return false if the queue of the priority is full
+     */
+    public boolean solve(String jobId, JobScheduler.Priority priority, Schedule problem) {
+        // The phases solve one after the other
+        return solverRuns.start(jobId, priority, 1, problem, run -> solvePhases(run, problem));
+    }
+
+    private void solvePhases(SolverRuns.Run run, Schedule problem) throws InterruptedException, ExecutionException {
+        problem.setConstraintWeightOverrides(withoutSoftConstraints(problem));
+        SolverJob<Schedule, String> feasibilityJob = run.solve("feasibility", problem,
+                new TerminationConfig()
+                        .withBestScoreLimit(FEASIBLE_SCORE_LIMIT)
+                        .withSpentLimit(feasibilitySpentLimit),
+                null);
+        if (feasibilityJob == null) {
+            problem.setConstraintWeightOverrides(ConstraintWeightOverrides.none());
+            run.finish(problem);
+            return;
+        }
+        Schedule feasibleSchedule = feasibilityJob.getFinalBestSolution();
+        feasibleSchedule.setConstraintWeightOverrides(ConstraintWeightOverrides.none());
+        // The feasibility score misses the soft constraints
+        solutionManager.update(feasibleSchedule);
+        run.publishBestSolution(feasibleSchedule);
+
+        SolverJob<Schedule, String> optimizationJob = run.solve("optimization", feasibleSchedule,
+                adaptiveTermination.toTerminationConfig(adaptiveTermination.getDefaultOptions(feasibleSchedule)),
+                run::publishBestSolution);
+        run.finish(optimizationJob == null ? feasibleSchedule : optimizationJob.getFinalBestSolution());
+    }
+
+    /**
+     * @return a zero weight for every constraint that only affects the soft level, which disables it
+     */
+    ConstraintWeightOverrides<HardMediumSoftLongScore> withoutSoftConstraints(Schedule problem) {
+        Map<String, HardMediumSoftLongScore> weights = new LinkedHashMap<>();
+        for (ConstraintAnalysis<HardMediumSoftLongScore> constraintAnalysis : solutionManager
+                .analyze(problem, ScoreAnalysisFetchPolicy.FETCH_SHALLOW).constraintAnalyses()) {
+            HardMediumSoftLongScore weight = constraintAnalysis.weight();
+            if (weight.hardScore() == 0L && weight.mediumScore() == 0L) {
+                weights.put(constraintAnalysis.constraintRef().constraintName(), HardMediumSoftLongScore.ZERO);
+            }
+        }
+        return ConstraintWeightOverrides.of(weights);
+    }
+}
@@ -0,0 +1,130 @@
+package org.acme.employeescheduling.rest;
+
+import org.acme.employeescheduling.domain.Demand;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+/**
+ * Distinct resource categories and qualifications of a demand export, parsed once per file.
+ * <p>
+ * An entry is reused while the modification time of its file is unchanged.
+ * When the modification time changes, the file is checksummed and only parsed again if its content changed.
+ */
+public class ReferenceDataCache {
+
+    private static final ReferenceDataCache INSTANCE = new ReferenceDataCache();
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public static ReferenceDataCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param resourceCategories distinct, sorted
+     * @param qualifications distinct, sorted
+     */
+    public record ReferenceData(List<String> resourceCategories, List<String> qualifications) {
+    }
+
+    /**
+     * @param csvResource classpath resource of a BSA export, such as {@link DemandDataProvider#MAI_BIS_AUGUST}
+     */
+    public ReferenceData get(String csvResource) {
+        URL url = ReferenceDataCache.class.getResource(csvResource);
+        if (url == null) {
+            throw new IllegalArgumentException("The demand export (" + csvResource + ") is not on the classpath.");
+        }
+        return get(url);
+    }
+
+    public ReferenceData get(URL url) {
+        long lastModified = lastModified(url);
+        // compute() holds the lock of the key, so concurrent callers of a cold entry parse the file only once
+        return entries.compute(url.toExternalForm(), (key, entry) -> {
+            if (entry != null && lastModified != 0L && entry.lastModified() == lastModified) {
+                hitCount.incrementAndGet();
+                return entry;
+            }
+            long checksum = checksum(url);
+            if (entry != null && entry.checksum() == checksum) {
+                hitCount.incrementAndGet();
+                return new Entry(lastModified, checksum, entry.data());
+            }
+            missCount.incrementAndGet();
+            return new Entry(lastModified, checksum, parse(url));
+        }).data();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static ReferenceData parse(URL url) {
+        Set<String> resourceCategories = new TreeSet<>();
+        Set<String> qualifications = new TreeSet<>();
+        try {
+            URLConnection connection = url.openConnection();
+            try (InputStream inputStream = connection.getInputStream()) {
+                for (Demand demand : DemandDataProvider.importDemands(inputStream, connection.getContentLengthLong()).demands()) {
+                    resourceCategories.add(demand.getRequiredResourceCategory());
+                    qualifications.addAll(demand.getRequiredQualifications());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the demand export (" + url + ").", e);
+        }
+        return new ReferenceData(List.copyOf(resourceCategories), List.copyOf(qualifications));
+    }
+
+    private static long lastModified(URL url) {
+        try {
+            URLConnection connection = url.openConnection();
+            // Avoid leaking the jar file handle of jar: URLs
+            connection.setUseCaches(false);
+            long lastModified = connection.getLastModified();
+            connection.getInputStream().close();
+            return lastModified;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the demand export (" + url + ").", e);
+        }
+    }
+
+    private static long checksum(URL url) {
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = url.openStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the demand export (" + url + ").", e);
+        }
+        return checksum.getValue();
+    }
+
+    private record Entry(long lastModified, long checksum, ReferenceData data) {
+    }
+}
@@ -0,0 +1,45 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+/**
+ * The progress of a rolling-horizon solve, and how it compares to solving the whole horizon at once.
+ *
+ * @param score of the whole schedule after the last solved window
+ * @param monolithic null until the monolithic solve finished, or if it was not requested
+ */
+public record RollingHorizonReport(List<WindowReport> windows, long solvingMillis, HardMediumSoftLongScore score,
+        MonolithicReport monolithic) {
+
+    /**
+     * @param score of the window problem, which includes the pinned demands before the window
+     */
+    public record WindowReport(LocalDateTime start, LocalDateTime end, int movableDemandCount, int pinnedDemandCount,
+            long solvingMillis, HardMediumSoftLongScore score) {
+    }
+
+    /**
+     * @param solvingMillis the monolithic solve gets the time the windows spent in total
+     */
+    public record MonolithicReport(long solvingMillis, HardMediumSoftLongScore score) {
+    }
+
+    static RollingHorizonReport empty() {
+        return new RollingHorizonReport(List.of(), 0L, null, null);
+    }
+
+    RollingHorizonReport withWindow(WindowReport window, HardMediumSoftLongScore scheduleScore) {
+        List<WindowReport> newWindows = new ArrayList<>(windows);
+        newWindows.add(window);
+        return new RollingHorizonReport(List.copyOf(newWindows), solvingMillis + window.solvingMillis(), scheduleScore,
+                monolithic);
+    }
+
+    RollingHorizonReport withMonolithic(MonolithicReport monolithic) {
+        return new RollingHorizonReport(windows, solvingMillis, score, monolithic);
+    }
+}
@@ -0,0 +1,150 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverJob;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.solver.RollingHorizon;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Solves a schedule window by window, see {@link RollingHorizon}.
+ * <p>
+ * Every window is a solver job of its own, with its own spent limit.
+ * The whole schedule is published through the {@link JobStore} and the {@link ScheduleEventPublisher} after each window.
+ * On request, the original problem is then solved at once, for the same time the windows took in total,
+ * to report what the windows cost in score.
+ */
+@ApplicationScoped
+public class RollingHorizonSolver {
+
+    private final SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager;
+    private final JobStore jobStore;
+    private final SolverRuns solverRuns;
+    private final Options defaultOptions;
+
+    private final ConcurrentMap<String, RollingHorizonReport> reports = new ConcurrentHashMap<>();
+
+    @Inject
+    public RollingHorizonSolver(SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager, JobStore jobStore,
+            SolverRuns solverRuns,
+            @ConfigProperty(name = "employee-scheduling.rolling-horizon.window-length", defaultValue = "P7D") Duration windowLength,
+            @ConfigProperty(name = "employee-scheduling.rolling-horizon.overlap", defaultValue = "P1D") Duration overlap,
+            @ConfigProperty(name = "employee-scheduling.rolling-horizon.window-spent-limit",
+                    defaultValue = "10s") Duration windowSpentLimit) {
+        this.solutionManager = solutionManager;
+        this.jobStore = jobStore;
+        this.solverRuns = solverRuns;
+        this.defaultOptions = new Options(windowLength, overlap, windowSpentLimit, false);
+    }
+
+    /**
+     * @param compare whether to also solve the whole horizon at once, for the report
+     */
+    public record Options(Duration windowLength, Duration overlap, Duration windowSpentLimit, boolean compare) {
+    }
+
+    public Options getDefaultOptions() {
+        return defaultOptions;
+    }
+
+    /**
+     * Starts solving in the background, once the {@link JobScheduler} has a slot free.
+     *
+     * @return false if the queue of the priority is full
+     * @throws IllegalArgumentException if the options do not give valid windows
+     */
+    public boolean solve(String jobId, JobScheduler.Priority priority, Schedule problem, Options options) {
+        List<RollingHorizon.Window> windows = RollingHorizon.windows(problem.getDemands(), options.windowLength(),
+                options.overlap());
+        if (options.windowSpentLimit().isZero() || options.windowSpentLimit().isNegative()) {
+            throw new IllegalArgumentException("The window spent limit (" + options.windowSpentLimit() + ") must be positive.");
+        }
+        // Drop the reports of jobs the job store no longer has
+        reports.keySet().retainAll(jobStore.jobIds());
+        reports.put(jobId, RollingHorizonReport.empty());
+        // The windows, and the monolithic solve after them, solve one after the other
+        if (!solverRuns.start(jobId, priority, 1, problem, run -> solveWindows(run, problem, windows, options))) {
+            reports.remove(jobId);
+            return false;
+        }
+        return true;
+    }
+
+    private void solveWindows(SolverRuns.Run run, Schedule problem, List<RollingHorizon.Window> windows, Options options)
+            throws InterruptedException, ExecutionException {
+        String jobId = run.getJobId();
+        List<Resource> resources = problem.getResources();
+        Schedule schedule = new Schedule(resources, problem.getDemands());
+        for (int i = 0; i < windows.size(); i++) {
+            RollingHorizon.Window window = windows.get(i);
+            Schedule windowProblem = RollingHorizon.windowProblem(resources, schedule.getDemands(), window);
+            long startMillis = System.currentTimeMillis();
+            SolverJob<Schedule, String> solverJob = run.solve("window-" + i, windowProblem, options.windowSpentLimit());
+            if (solverJob == null) {
+                break;
+            }
+            Schedule windowSolution = solverJob.getFinalBestSolution();
+            long solvingMillis = System.currentTimeMillis() - startMillis;
+            schedule = RollingHorizon.merge(resources, schedule.getDemands(), windowSolution, window);
+            solutionManager.update(schedule);
+
+            int movableCount = 0;
+            int pinnedCount = 0;
+            for (Demand demand : windowProblem.getDemands()) {
+                if (window.isMovable(demand)) {
+                    movableCount++;
+                } else {
+                    pinnedCount++;
+                }
+            }
+            RollingHorizonReport.WindowReport windowReport = new RollingHorizonReport.WindowReport(window.start(),
+                    window.end(), movableCount, pinnedCount, solvingMillis, windowSolution.getScore());
+            HardMediumSoftLongScore scheduleScore = schedule.getScore();
+            reports.computeIfPresent(jobId, (id, report) -> report.withWindow(windowReport, scheduleScore));
+            run.publishBestSolution(schedule);
+        }
+        if (options.compare()) {
+            compareWithMonolithicSolve(run, problem);
+        }
+        run.finish(schedule);
+    }
+
+    private void compareWithMonolithicSolve(SolverRuns.Run run, Schedule problem)
+            throws InterruptedException, ExecutionException {
+        RollingHorizonReport report = reports.get(run.getJobId());
+        if (report == null) {
+            return;
+        }
+        Schedule monolithicProblem = new Schedule(problem.getResources(),
+                new ArrayList<>(problem.getDemands().stream().map(Demand::copy).toList()));
+        long startMillis = System.currentTimeMillis();
+        SolverJob<Schedule, String> solverJob = run.solve("monolithic", monolithicProblem,
+                Duration.ofMillis(Math.max(1L, report.solvingMillis())));
+        if (solverJob == null) {
+            return;
+        }
+        Schedule monolithicSolution = solverJob.getFinalBestSolution();
+        RollingHorizonReport.MonolithicReport monolithic = new RollingHorizonReport.MonolithicReport(
+                System.currentTimeMillis() - startMillis, monolithicSolution.getScore());
+        reports.computeIfPresent(run.getJobId(), (id, current) -> current.withMonolithic(monolithic));
+    }
+
+    public Optional<RollingHorizonReport> getReport(String jobId) {
+        return Optional.ofNullable(reports.get(jobId));
+    }
+}
@@ -0,0 +1,22 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolverStatus;
+
+/**
+ * The changes of a schedule between two versions. Every best solution of a job gets the next version.
+ *
+ * @param version the version these changes lead to
+ * @param assignments the resource name, or null if unassigned, of every demand whose assignment changed
+ * @param removedDemandIds demands removed by a problem change
+ */
+public record ScheduleDelta(long version, HardMediumSoftLongScore score, SolverStatus solverStatus,
+        Map<String, String> assignments, List<String> removedDemandIds) {
+
+    public ScheduleDelta withSolverStatus(SolverStatus solverStatus) {
+        return new ScheduleDelta(version, score, solverStatus, assignments, removedDemandIds);
+    }
+}
@@ -0,0 +1,126 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import ai.timefold.solver.core.api.solver.SolverStatus;
+
+/**
+ * Pushes the best solutions of running jobs to Server-Sent Events subscribers, as {@link ScheduleDelta}s.
+ */
+@ApplicationScoped
+public class ScheduleEventPublisher {
+
+    static final String BEST_SOLUTION_EVENT = "bestSolution";
+    static final String FAILURE_EVENT = "failure";
+
+    private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+    public record FailureEvent(String message) {
+    }
+
+    public void open(String jobId) {
+        channels.put(jobId, new Channel());
+    }
+
+    /**
+     * Sends the changes the subscriber missed, then the events of the job until it finishes.
+     * Subscribers to a job that is not solving only get the changes they missed.
+     *
+     * @param catchUp the changes since the version the subscriber has, including the current solver status
+     */
+    public void subscribe(String jobId, Supplier<ScheduleDelta> catchUp, SseEventSink sink, Sse sse) {
+        Channel channel = channels.get(jobId);
+        if (channel != null && channel.register(catchUp, sink, sse)) {
+            return;
+        }
+        sink.send(toSseEvent(sse, BEST_SOLUTION_EVENT, catchUp.get()))
+                .whenComplete((result, exception) -> sink.close());
+    }
+
+    public void publishBestSolution(String jobId, ScheduleDelta delta) {
+        Channel channel = channels.get(jobId);
+        if (channel != null) {
+            channel.publish(delta.withSolverStatus(SolverStatus.SOLVING_ACTIVE));
+        }
+    }
+
+    public void publishFinished(String jobId, ScheduleDelta delta) {
+        Channel channel = channels.remove(jobId);
+        if (channel != null) {
+            channel.closeAfter(channel.publish(delta.withSolverStatus(SolverStatus.NOT_SOLVING)));
+        }
+    }
+
+    public void publishFailure(String jobId, Throwable exception) {
+        Channel channel = channels.remove(jobId);
+        if (channel != null) {
+            channel.closeAfter(channel.fail(exception));
+        }
+    }
+
+    private static OutboundSseEvent toSseEvent(Sse sse, String name, Object data) {
+        return sse.newEventBuilder()
+                .name(name)
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(data)
+                .build();
+    }
+
+    private static final class Channel {
+
+        private Sse sse;
+        private SseBroadcaster broadcaster;
+        private boolean closed = false;
+
+        // Synchronized with publish(), so no event falls between the catch-up and the registration.
+        // A subscriber may get an event it already caught up with; it can skip it by its version.
+        synchronized boolean register(Supplier<ScheduleDelta> catchUp, SseEventSink sink, Sse sse) {
+            if (closed) {
+                return false;
+            }
+            if (broadcaster == null) {
+                this.sse = sse;
+                this.broadcaster = sse.newBroadcaster();
+            }
+            sink.send(toSseEvent(sse, BEST_SOLUTION_EVENT, catchUp.get()));
+            broadcaster.register(sink);
+            return true;
+        }
+
+        synchronized CompletionStage<?> publish(ScheduleDelta delta) {
+            if (broadcaster == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return broadcaster.broadcast(toSseEvent(sse, BEST_SOLUTION_EVENT, delta));
+        }
+
+        synchronized CompletionStage<?> fail(Throwable exception) {
+            if (broadcaster == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return broadcaster.broadcast(toSseEvent(sse, FAILURE_EVENT, new FailureEvent(exception.getMessage())));
+        }
+
+        /**
+         * Rejects new subscribers at once and disconnects the current ones after the last event is sent.
+         */
+        synchronized void closeAfter(CompletionStage<?> lastEvent) {
+            closed = true;
+            if (broadcaster != null) {
+                SseBroadcaster closingBroadcaster = broadcaster;
+                lastEvent.whenComplete((result, exception) -> closingBroadcaster.close());
+            }
+        }
+    }
+}
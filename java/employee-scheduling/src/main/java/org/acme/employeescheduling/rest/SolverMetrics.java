@@ -0,0 +1,267 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.solver.SolverJob;
+import ai.timefold.solver.core.api.solver.SolverStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.acme.employeescheduling.domain.FixedPointScore;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Micrometer metrics of the solver jobs, exported at {@code /q/metrics}.
+ * <p>
+ * While a solver job is queued or solving, it has gauges tagged with its problem ID:
+ * score calculation speed, move evaluation speed and each level of its best score.
+ * They are removed when it ends, and its durations and counts are added to the global timers and counters,
+ * so the number of series stays bounded by the jobs in flight.
+ */
+@ApplicationScoped
+public class SolverMetrics {
+
+    static final String PREFIX = "employee_scheduling.";
+
+    private final MeterRegistry registry;
+    private final Timer queueWaitTimer;
+    private final Timer timeToFeasibleTimer;
+    private final Timer solveDurationTimer;
+    private final Counter scoreCalculationCounter;
+    private final Counter moveEvaluationCounter;
+    private final Counter failureCounter;
+
+    private final ConcurrentMap<String, JobMetrics> jobs = new ConcurrentHashMap<>();
+
+    @Inject
+    public SolverMetrics(MeterRegistry registry, JobStore jobStore) {
+        this(registry, jobStore::size);
+    }
+
+    SolverMetrics(MeterRegistry registry, IntSupplier jobStoreSize) {
+        this.registry = registry;
+        queueWaitTimer = timer("solve.queue_wait", "Time from submitting a solver job until it starts solving.");
+        timeToFeasibleTimer = timer("solve.time_to_feasible",
+                "Time from the start of solving until the first feasible best solution.");
+        solveDurationTimer = timer("solve.duration", "Time from the start of solving until the solver job ends.");
+        scoreCalculationCounter = Counter.builder(PREFIX + "score_calculations")
+                .description("Score calculations of the solver jobs that ended.")
+                .register(registry);
+        moveEvaluationCounter = Counter.builder(PREFIX + "move_evaluations")
+                .description("Moves evaluated by the solver jobs that ended.")
+                .register(registry);
+        failureCounter = Counter.builder(PREFIX + "solve.failures")
+                .description("Solver jobs that ended with an exception.")
+                .register(registry);
+        Gauge.builder(PREFIX + "solvers", this, metrics -> metrics.countJobs(true))
+                .tag("state", "active")
+                .description("Solver jobs that are solving.")
+                .register(registry);
+        Gauge.builder(PREFIX + "solvers", this, metrics -> metrics.countJobs(false))
+                .tag("state", "queued")
+                .description("Solver jobs that wait for a free solver thread.")
+                .register(registry);
+        Gauge.builder(PREFIX + "job_store.size", jobStoreSize, IntSupplier::getAsInt)
+                .description("Jobs in the job store, in memory or spilled to disk.")
+                .register(registry);
+    }
+
+    private Timer timer(String name, String description) {
+        return Timer.builder(PREFIX + name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(10))
+                .maximumExpectedValue(Duration.ofHours(2))
+                .register(registry);
+    }
+
+    /**
+     * Starts tracking a solver job; call before submitting it, so its queue wait is complete.
+     */
+    public JobMetrics submitted(String problemId) {
+        JobMetrics jobMetrics = new JobMetrics(problemId);
+        JobMetrics previous = jobs.put(problemId, jobMetrics);
+        if (previous != null) {
+            previous.removeGauges();
+        }
+        return jobMetrics;
+    }
+
+    /**
+     * Ends tracking a job that was rejected or cancelled before it was handed to the {@code SolverManager}.
+     */
+    public void cancelled(String problemId) {
+        JobMetrics jobMetrics = jobs.get(problemId);
+        if (jobMetrics != null) {
+            jobMetrics.end(false);
+        }
+    }
+
+    /**
+     * Ends tracking a job if it was terminated before it started solving; such a solver job never calls back.
+     * Call after {@code SolverManager.terminateEarly()}.
+     */
+    public void terminatedEarly(String problemId) {
+        JobMetrics jobMetrics = jobs.get(problemId);
+        if (jobMetrics != null) {
+            jobMetrics.terminatedEarly();
+        }
+    }
+
+    private double countJobs(boolean started) {
+        int count = 0;
+        for (JobMetrics jobMetrics : jobs.values()) {
+            if ((jobMetrics.startNanos != 0L) == started) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Metrics of one solver job. The callbacks may come from any thread.
+     */
+    public final class JobMetrics {
+
+        private static final String[] TWO_LEVEL_NAMES = { "hard", "soft" };
+        private static final String[] THREE_LEVEL_NAMES = { "hard", "medium", "soft" };
+
+        private final String problemId;
+        private final long submitNanos = System.nanoTime();
+        private final List<Meter> gauges = new ArrayList<>();
+
+        private volatile SolverJob<Schedule, String> solverJob;
+        private volatile long startNanos = 0L;
+        // In points, not in fixed-point units
+        private volatile double[] bestScoreLevels;
+        private boolean feasible = false;
+        private boolean ended = false;
+
+        private JobMetrics(String problemId) {
+            this.problemId = problemId;
+            Tags tags = Tags.of("job", problemId);
+            gauges.add(Gauge.builder(PREFIX + "job.score_calculation_speed", this,
+                            metrics -> metrics.solverJob == null ? Double.NaN : metrics.solverJob.getScoreCalculationSpeed())
+                    .tags(tags)
+                    .description("Score calculations per second of a solver job.")
+                    .register(registry));
+            gauges.add(Gauge.builder(PREFIX + "job.move_evaluation_speed", this,
+                            metrics -> metrics.solverJob == null ? Double.NaN : metrics.solverJob.getMoveEvaluationSpeed())
+                    .tags(tags)
+                    .description("Moves evaluated per second by a solver job.")
+                    .register(registry));
+        }
+
+        /**
+         * @param solverJob returned by the {@code SolverManager}, to read the speeds from
+         */
+        public void attach(SolverJob<Schedule, String> solverJob) {
+            this.solverJob = solverJob;
+        }
+
+        public void started() {
+            startNanos = System.nanoTime();
+            queueWaitTimer.record(startNanos - submitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public synchronized void bestSolution(Schedule schedule) {
+            Score<?> score = schedule.getScore();
+            if (ended || score == null) {
+                return;
+            }
+            boolean first = bestScoreLevels == null;
+            // Set before the gauges exist, so they never read a missing score
+            bestScoreLevels = toPoints(score.toLevelNumbers());
+            if (first) {
+                registerBestScoreGauges(bestScoreLevels.length);
+            }
+            if (!feasible && score.isFeasible()) {
+                feasible = true;
+                timeToFeasibleTimer.record(System.nanoTime() - solvingStartNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private static double[] toPoints(Number[] levelNumbers) {
+            double[] points = new double[levelNumbers.length];
+            for (int i = 0; i < levelNumbers.length; i++) {
+                points[i] = levelNumbers[i].doubleValue() / FixedPointScore.SCALE;
+            }
+            return points;
+        }
+
+        private void registerBestScoreGauges(int levelCount) {
+            String[] levelNames = levelCount == 2 ? TWO_LEVEL_NAMES : levelCount == 3 ? THREE_LEVEL_NAMES : null;
+            for (int i = 0; i < levelCount; i++) {
+                int level = i;
+                gauges.add(Gauge.builder(PREFIX + "job.best_score", this,
+                                metrics -> metrics.bestScoreLevels[level])
+                        .tags(Tags.of("job", problemId, "level", levelNames == null ? "level" + level : levelNames[level]))
+                        .description("A score level of the best solution of a solver job so far.")
+                        .register(registry));
+            }
+        }
+
+        /**
+         * Adds the final best solution to the best score, then ends tracking.
+         */
+        public void finished(Schedule schedule) {
+            bestSolution(schedule);
+            end(true);
+        }
+
+        public void failed() {
+            failureCounter.increment();
+            end(true);
+        }
+
+        private void terminatedEarly() {
+            SolverJob<Schedule, String> attachedSolverJob = solverJob;
+            // A solver job that started calls back when it ends
+            if (startNanos == 0L
+                    && (attachedSolverJob == null || attachedSolverJob.getSolverStatus() == SolverStatus.NOT_SOLVING)) {
+                end(false);
+            }
+        }
+
+        private synchronized void end(boolean solved) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            if (solved) {
+                solveDurationTimer.record(System.nanoTime() - solvingStartNanos(), TimeUnit.NANOSECONDS);
+            }
+            SolverJob<Schedule, String> finalSolverJob = solverJob;
+            if (finalSolverJob != null) {
+                scoreCalculationCounter.increment(finalSolverJob.getScoreCalculationCount());
+                moveEvaluationCounter.increment(finalSolverJob.getMoveEvaluationCount());
+            }
+            removeGauges();
+            jobs.remove(problemId, this);
+        }
+
+        private long solvingStartNanos() {
+            return startNanos != 0L ? startNanos : submitNanos;
+        }
+
+        private synchronized void removeGauges() {
+            gauges.forEach(registry::remove);
+            gauges.clear();
+        }
+    }
+}
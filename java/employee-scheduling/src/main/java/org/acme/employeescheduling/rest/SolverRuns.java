@@ -0,0 +1,238 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.solver.SolverConfigOverride;
+import ai.timefold.solver.core.api.solver.SolverJob;
+import ai.timefold.solver.core.api.solver.SolverManager;
+import ai.timefold.solver.core.api.solver.SolverStatus;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.domain.Schedule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs jobs that are solved as several solver jobs, such as rolling-horizon windows or eligibility components.
+ * <p>
+ * The solver jobs of a run have problem IDs derived from its job ID,
+ * so the {@link SolverManager} does not know the job ID itself; ask the status and terminate through this class instead.
+ * Runs are admitted by the {@link JobScheduler} like any other job, with a slot for each solver job they solve at once.
+ */
+@ApplicationScoped
+public class SolverRuns {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SolverRuns.class);
+
+    private final SolverManager<Schedule, String> solverManager;
+    private final JobStore jobStore;
+    private final ScheduleEventPublisher eventPublisher;
+    private final SolverMetrics solverMetrics;
+    private final JobScheduler jobScheduler;
+
+    // The runs wait on their solver jobs; the JobScheduler bounds how many run at a time
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ConcurrentMap<String, Run> runs = new ConcurrentHashMap<>();
+
+    @Inject
+    public SolverRuns(SolverManager<Schedule, String> solverManager, JobStore jobStore, ScheduleEventPublisher eventPublisher,
+            SolverMetrics solverMetrics, JobScheduler jobScheduler) {
+        this.solverManager = solverManager;
+        this.jobStore = jobStore;
+        this.eventPublisher = eventPublisher;
+        this.solverMetrics = solverMetrics;
+        this.jobScheduler = jobScheduler;
+    }
+
+    @FunctionalInterface
+    public interface Body {
+
+        /**
+         * Solves the problem through {@link Run#solve}, then calls {@link Run#finish(Schedule)}.
+         */
+        void run(Run run) throws InterruptedException, ExecutionException;
+    }
+
+    /**
+     * Registers the problem as version 0 of the job and runs the body in the background, once the {@link JobScheduler}
+     * starts it. Until then, the job can be cancelled through {@link JobScheduler#cancel(String)}.
+     *
+     * @param slots how many solver jobs the body solves at the same time, see {@link JobScheduler#submit}
+     * @return false if the queue of the priority is full; the job is then not registered
+     */
+    public boolean start(String jobId, JobScheduler.Priority priority, int slots, Schedule problem, Body body) {
+        return jobScheduler.submit(jobId, priority, slots,
+                () -> {
+                    jobStore.putProblem(jobId, problem);
+                    eventPublisher.open(jobId);
+                },
+                () -> {
+                    Run run = new Run(jobId);
+                    runs.put(jobId, run);
+                    try {
+                        executor.execute(() -> {
+                            try {
+                                body.run(run);
+                            } catch (Exception e) {
+                                failed(jobId, e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e);
+                            } finally {
+                                runs.remove(jobId);
+                                jobScheduler.finished(jobId);
+                            }
+                        });
+                    } catch (RuntimeException e) {
+                        runs.remove(jobId);
+                        failed(jobId, e);
+                        jobScheduler.finished(jobId);
+                    }
+                });
+    }
+
+    private void failed(String jobId, Throwable exception) {
+        jobStore.putException(jobId, exception);
+        eventPublisher.publishFailure(jobId, exception);
+        LOGGER.error("Failed solving jobId ({}).", jobId, exception);
+    }
+
+    /**
+     * @return empty if the job is not a run
+     */
+    public Optional<SolverStatus> getSolverStatus(String jobId) {
+        Run run = runs.get(jobId);
+        return run == null ? Optional.empty() : Optional.of(run.getSolverStatus());
+    }
+
+    /**
+     * Terminates the solver jobs of the run; each keeps its best solution so far.
+     *
+     * @return false if the job is not a run
+     */
+    public boolean terminateEarly(String jobId) {
+        Run run = runs.get(jobId);
+        if (run == null) {
+            return false;
+        }
+        run.terminateEarly();
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runs.values().forEach(Run::terminateEarly);
+        executor.shutdownNow();
+    }
+
+    public final class Run {
+
+        private final String jobId;
+        private final List<String> problemIds = new ArrayList<>();
+        private boolean terminated = false;
+
+        private Run(String jobId) {
+            this.jobId = jobId;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        /**
+         * Starts a solver job.
+         *
+         * @param name unique within the run
+         * @param spentLimit null for the configured termination
+         * @return null if the run was terminated before
+         */
+        public SolverJob<Schedule, String> solve(String name, Schedule problem, Duration spentLimit) {
+            return solve(name, problem, spentLimit == null ? null : new TerminationConfig().withSpentLimit(spentLimit), null);
+        }
+
+        /**
+         * Starts a solver job.
+         *
+         * @param name unique within the run
+         * @param terminationConfig null for the configured termination
+         * @param bestSolutionConsumer called with every new best solution, or null
+         * @return null if the run was terminated before
+         */
+        public SolverJob<Schedule, String> solve(String name, Schedule problem, TerminationConfig terminationConfig,
+                Consumer<Schedule> bestSolutionConsumer) {
+            // Synchronized with terminateEarly(), so a termination cannot miss a solver job that is starting
+            synchronized (this) {
+                if (terminated) {
+                    return null;
+                }
+                String problemId = jobId + "-" + name;
+                problemIds.add(problemId);
+                SolverMetrics.JobMetrics jobMetrics = solverMetrics.submitted(problemId);
+                // The caller gets the final best solution or the exception from the returned solver job
+                var solveBuilder = solverManager.solveBuilder()
+                        .withProblemId(problemId)
+                        .withProblem(problem)
+                        .withSolverJobStartedConsumer(solution -> jobMetrics.started())
+                        .withBestSolutionConsumer(solution -> {
+                            jobMetrics.bestSolution(solution);
+                            if (bestSolutionConsumer != null) {
+                                bestSolutionConsumer.accept(solution);
+                            }
+                        })
+                        .withFinalBestSolutionConsumer(jobMetrics::finished)
+                        .withExceptionHandler((problemId_, exception) -> jobMetrics.failed());
+                if (terminationConfig != null) {
+                    solveBuilder.withConfigOverride(new SolverConfigOverride<Schedule>()
+                            .withTerminationConfig(terminationConfig));
+                }
+                SolverJob<Schedule, String> solverJob = solveBuilder.run();
+                jobMetrics.attach(solverJob);
+                return solverJob;
+            }
+        }
+
+        /**
+         * Publishes an intermediate schedule of the job.
+         */
+        public void publishBestSolution(Schedule schedule) {
+            eventPublisher.publishBestSolution(jobId, jobStore.putBestSolution(jobId, schedule));
+        }
+
+        public void finish(Schedule schedule) {
+            ScheduleDelta delta = jobStore.putBestSolution(jobId, schedule);
+            jobStore.markFinished(jobId);
+            eventPublisher.publishFinished(jobId, delta);
+        }
+
+        synchronized void terminateEarly() {
+            terminated = true;
+            for (String problemId : problemIds) {
+                solverManager.terminateEarly(problemId);
+                solverMetrics.terminatedEarly(problemId);
+            }
+        }
+
+        synchronized SolverStatus getSolverStatus() {
+            boolean scheduled = problemIds.isEmpty();
+            for (String problemId : problemIds) {
+                SolverStatus status = solverManager.getSolverStatus(problemId);
+                if (status == SolverStatus.SOLVING_ACTIVE) {
+                    return status;
+                }
+                scheduled |= status == SolverStatus.SOLVING_SCHEDULED;
+            }
+            // Between two solver jobs, the run is still active
+            return scheduled ? SolverStatus.SOLVING_SCHEDULED : SolverStatus.SOLVING_ACTIVE;
+        }
+    }
+}
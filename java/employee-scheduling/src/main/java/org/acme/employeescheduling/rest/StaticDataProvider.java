@@ -1,7 +1,6 @@
 package org.acme.employeescheduling.rest;
 
 import java.util.HashSet;
-import org.acme.employeescheduling.domain.Demand;
 
 import java.util.List;
 import org.acme.employeescheduling.domain.Resource;
@@ -84,7 +83,7 @@ public class StaticDataProvider {
         new Resource("Bill Board", "Vorarbeiter", new HashSet<>(), new HashSet<>(), new HashSet<>(), "YV_2"));
 
     public static List<String> getResourceCategories() {
-        return new DemandDataProvider().readDemands().stream().map(Demand::getRequiredResourceCategory).toList();
+        return ReferenceDataCache.getInstance().get(DemandDataProvider.MAI_BIS_AUGUST).resourceCategories();
 //        return List.of(
 //            "Arbeitsleiter/in",
 //            "Arbeitsstellenkoordinator/in",
@@ -129,7 +128,7 @@ public class StaticDataProvider {
     }
 
     public static List<String> getQualifications() {
-        return new DemandDataProvider().readDemands().stream().flatMap(demand -> demand.getRequiredQualifications().stream()).toList();
+        return ReferenceDataCache.getInstance().get(DemandDataProvider.MAI_BIS_AUGUST).qualifications();
 //        return List.of(
 //            "Bauleiter",
 //            "Güterzugsmodul",
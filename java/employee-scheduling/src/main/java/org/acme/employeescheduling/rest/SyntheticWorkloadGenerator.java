@@ -0,0 +1,197 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Generates large, reproducible schedules that look like the BSA exports.
+ * <p>
+ * Demands are whole construction sites of the exports, drawn at random and copied under a new site ID,
+ * so the shift times, night shifts, crew sizes, resource categories and required qualifications per site
+ * are those of real sites. Each copy is moved by a random number of whole weeks within the horizon,
+ * which keeps the weekdays of the shifts.
+ * <p>
+ * Resources get a category in proportion to the demanded hours of that category, and the qualifications
+ * required by a few random demands of that category, so a resource can typically cover those demands.
+ * The same parameters always give the same schedule.
+ */
+public class SyntheticWorkloadGenerator {
+
+    public static final int MAX_DEMAND_COUNT = 500_000;
+    public static final int MAX_RESOURCE_COUNT = 20_000;
+
+    // Demands whose required qualifications make up the qualifications of one resource
+    private static final int QUALIFICATION_SAMPLES_PER_RESOURCE = 3;
+    private static final int AVERAGE_TEAM_SIZE = 6;
+    // Share of the horizon days on which a resource is unavailable, and on which it would rather not work
+    private static final double UNAVAILABLE_DAY_RATIO = 0.07;
+    private static final double UNDESIRED_DAY_RATIO = 0.07;
+
+    /**
+     * @param weeks horizon length; at least the span of the exports, so every site fits
+     */
+    public record WorkloadParameters(int demandCount, int resourceCount, int weeks, long seed) {
+
+        public WorkloadParameters {
+            if (demandCount < 1 || demandCount > MAX_DEMAND_COUNT) {
+                throw new IllegalArgumentException("The demandCount (" + demandCount + ") must be between 1 and "
+                        + MAX_DEMAND_COUNT + ".");
+            }
+            if (resourceCount < 1 || resourceCount > MAX_RESOURCE_COUNT) {
+                throw new IllegalArgumentException("The resourceCount (" + resourceCount + ") must be between 1 and "
+                        + MAX_RESOURCE_COUNT + ".");
+            }
+            if (weeks < 1) {
+                throw new IllegalArgumentException("The weeks (" + weeks + ") must be at least 1.");
+            }
+        }
+    }
+
+    private record SiteTemplate(String constructionSite, List<Demand> demands) {
+    }
+
+    private final List<SiteTemplate> siteTemplates;
+    private final LocalDate firstDay;
+    private final int exportWeeks;
+
+    /**
+     * @param templateDemands demands of one or more exports; their construction sites are what gets copied
+     */
+    public SyntheticWorkloadGenerator(List<Demand> templateDemands) {
+        if (templateDemands.isEmpty()) {
+            throw new IllegalArgumentException("The templateDemands must not be empty.");
+        }
+        // Insertion order keeps the site order, and so the generated schedule, independent of hashing
+        Map<String, List<Demand>> demandsBySite = new LinkedHashMap<>();
+        for (Demand demand : templateDemands) {
+            demandsBySite.computeIfAbsent(demand.getConstructionSite(), site -> new ArrayList<>()).add(demand);
+        }
+        siteTemplates = new ArrayList<>(demandsBySite.size());
+        demandsBySite.forEach((site, demands) -> {
+            demands.sort(Comparator.comparing(Demand::getStart).thenComparing(Demand::getEnd));
+            siteTemplates.add(new SiteTemplate(site, List.copyOf(demands)));
+        });
+        LocalDateTime firstStart = templateDemands.stream().map(Demand::getStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime lastEnd = templateDemands.stream().map(Demand::getEnd).max(Comparator.naturalOrder()).orElseThrow();
+        firstDay = firstStart.toLocalDate();
+        exportWeeks = (int) ChronoUnit.WEEKS.between(firstDay.atStartOfDay(), lastEnd) + 1;
+    }
+
+    /**
+     * Both bundled exports.
+     */
+    public static SyntheticWorkloadGenerator fromExports() {
+        List<Demand> templateDemands = new ArrayList<>(DemandDataProvider.readDemands(DemandDataProvider.MAI_BIS_AUGUST));
+        templateDemands.addAll(DemandDataProvider.readDemands(DemandDataProvider.BERN_MAI_AUGUST));
+        return new SyntheticWorkloadGenerator(templateDemands);
+    }
+
+    /**
+     * Weeks from the first to the last shift of the template demands, the shortest horizon that fits every site.
+     */
+    public int getExportWeeks() {
+        return exportWeeks;
+    }
+
+    public Schedule generate(WorkloadParameters parameters) {
+        Random random = new Random(parameters.seed());
+        List<Demand> demands = generateDemands(parameters, random);
+        List<Resource> resources = generateResources(parameters, demands, random);
+        return new Schedule(resources, demands);
+    }
+
+    private List<Demand> generateDemands(WorkloadParameters parameters, Random random) {
+        int demandCount = parameters.demandCount();
+        int spareWeeks = Math.max(0, parameters.weeks() - exportWeeks);
+        List<Demand> demands = new ArrayList<>(demandCount);
+        for (int copy = 0; demands.size() < demandCount; copy++) {
+            SiteTemplate siteTemplate = siteTemplates.get(random.nextInt(siteTemplates.size()));
+            String constructionSite = siteTemplate.constructionSite() + "#" + copy;
+            int offsetWeeks = random.nextInt(spareWeeks + 1);
+            for (Demand template : siteTemplate.demands()) {
+                if (demands.size() == demandCount) {
+                    break;
+                }
+                // The required qualification sets are immutable, so copies share them
+                demands.add(new Demand(Integer.toString(demands.size()),
+                        template.getStart().plusWeeks(offsetWeeks), template.getEnd().plusWeeks(offsetWeeks),
+                        constructionSite, template.getRequiredResourceCategory(), null,
+                        template.getRequiredQualifications()));
+            }
+        }
+        return demands;
+    }
+
+    private List<Resource> generateResources(WorkloadParameters parameters, List<Demand> demands, Random random) {
+        // Cumulative demanded minutes per category, to draw categories in proportion to the work
+        Map<String, List<Demand>> demandsByCategory = demands.stream()
+                .collect(Collectors.groupingBy(Demand::getRequiredResourceCategory, LinkedHashMap::new, Collectors.toList()));
+        List<String> categories = new ArrayList<>(demandsByCategory.keySet());
+        long[] cumulativeMinutes = new long[categories.size()];
+        long totalMinutes = 0L;
+        for (int i = 0; i < categories.size(); i++) {
+            for (Demand demand : demandsByCategory.get(categories.get(i))) {
+                totalMinutes += Math.max(1, demand.getEndMinute() - demand.getStartMinute());
+            }
+            cumulativeMinutes[i] = totalMinutes;
+        }
+
+        LocalDate horizonStart = demands.stream().map(Demand::getStart).min(Comparator.naturalOrder()).orElseThrow().toLocalDate();
+        LocalDate horizonEnd = demands.stream().map(Demand::getEnd).max(Comparator.naturalOrder()).orElseThrow().toLocalDate();
+        int horizonDays = (int) ChronoUnit.DAYS.between(horizonStart, horizonEnd) + 1;
+        int teamCount = Math.max(1, parameters.resourceCount() / AVERAGE_TEAM_SIZE);
+        // Equal sets are shared by the resources that drew them, which matters for 20k resources
+        Map<Set<String>, Set<String>> canonicalQualifications = new HashMap<>();
+
+        List<Resource> resources = new ArrayList<>(parameters.resourceCount());
+        for (int i = 0; i < parameters.resourceCount(); i++) {
+            String category = categories.get(drawIndex(cumulativeMinutes, random));
+            List<Demand> categoryDemands = demandsByCategory.get(category);
+            Set<String> qualifications = new HashSet<>();
+            for (int sample = 0; sample < QUALIFICATION_SAMPLES_PER_RESOURCE; sample++) {
+                qualifications.addAll(categoryDemands.get(random.nextInt(categoryDemands.size())).getRequiredQualifications());
+            }
+            qualifications = canonicalQualifications.computeIfAbsent(Set.copyOf(qualifications), set -> set);
+            Set<LocalDate> unavailableDates = randomDates(horizonStart, horizonDays, UNAVAILABLE_DAY_RATIO, random);
+            Set<LocalDate> undesiredDates = randomDates(horizonStart, horizonDays, UNDESIRED_DAY_RATIO, random);
+            undesiredDates.removeAll(unavailableDates);
+            resources.add(new Resource("Resource " + i, category, qualifications, unavailableDates, undesiredDates,
+                    "Team " + random.nextInt(teamCount)));
+        }
+        return resources;
+    }
+
+    private static int drawIndex(long[] cumulativeWeights, Random random) {
+        long draw = random.nextLong(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Impossible state: the draw (" + draw + ") exceeds the total weight.");
+    }
+
+    private static Set<LocalDate> randomDates(LocalDate horizonStart, int horizonDays, double ratio, Random random) {
+        int dateCount = (int) (horizonDays * ratio);
+        Set<LocalDate> dates = new HashSet<>();
+        for (int i = 0; i < dateCount; i++) {
+            dates.add(horizonStart.plusDays(random.nextInt(horizonDays)));
+        }
+        return dates;
+    }
+}
@@ -1,5 +1,7 @@
 package org.acme.employeescheduling.rest.exception;
 
+import java.time.Duration;
+
 import jakarta.ws.rs.core.Response;
 
 public class EmployeeScheduleSolverException extends RuntimeException {
@@ -8,16 +10,24 @@ public class EmployeeScheduleSolverException extends RuntimeException {
 
     private final Response.Status status;
 
+    private final Duration retryAfter;
+
     public EmployeeScheduleSolverException(String jobId, Response.Status status, String message) {
+        this(jobId, status, message, null);
+    }
+
+    public EmployeeScheduleSolverException(String jobId, Response.Status status, String message, Duration retryAfter) {
         super(message);
         this.jobId = jobId;
         this.status = status;
+        this.retryAfter = retryAfter;
     }
 
     public EmployeeScheduleSolverException(String jobId, Throwable cause) {
         super(cause.getMessage(), cause);
         this.jobId = jobId;
         this.status = Response.Status.INTERNAL_SERVER_ERROR;
+        this.retryAfter = null;
     }
 
     public String getJobId() {
@@ -27,4 +37,11 @@ public class EmployeeScheduleSolverException extends RuntimeException {
     public Response.Status getStatus() {
         return status;
     }
+
+    /**
+     * @return null unless the request may be repeated after this long
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
 }
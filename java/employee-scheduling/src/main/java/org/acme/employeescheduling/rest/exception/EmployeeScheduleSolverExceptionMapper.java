@@ -1,5 +1,6 @@
 package org.acme.employeescheduling.rest.exception;
 
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -10,10 +11,13 @@ public class EmployeeScheduleSolverExceptionMapper implements ExceptionMapper<Em
 
     @Override
     public Response toResponse(EmployeeScheduleSolverException exception) {
-        return Response
+        Response.ResponseBuilder builder = Response
                 .status(exception.getStatus())
                 .type(MediaType.APPLICATION_JSON)
-                .entity(new ErrorInfo(exception.getJobId(), exception.getMessage()))
-                .build();
+                .entity(new ErrorInfo(exception.getJobId(), exception.getMessage()));
+        if (exception.getRetryAfter() != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, exception.getRetryAfter().toSeconds());
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,58 @@
+package org.acme.employeescheduling.solver;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.SwapMove;
+
+import org.acme.employeescheduling.domain.ConflictIndex;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Skips the change and swap moves that give a resource a demand conflicting with one it already works,
+ * see {@link ConflictIndex}, before their score is calculated.
+ * <p>
+ * Such a move breaks the overlap or rest-time constraint, a hard constraint, so it is seldom worth a score calculation.
+ * Moves that take a demand away from a conflict are still selected.
+ */
+public class ConflictingMoveFilter implements SelectionFilter<Schedule, Move<Schedule>> {
+
+    @Override
+    public boolean accept(ScoreDirector<Schedule> scoreDirector, Move<Schedule> move) {
+        Schedule schedule = scoreDirector.getWorkingSolution();
+        if (move instanceof ChangeMove<Schedule> changeMove) {
+            return acceptChange(schedule, (Demand) changeMove.getEntity(), (Resource) changeMove.getToPlanningValue());
+        }
+        if (move instanceof SwapMove<Schedule> swapMove) {
+            return acceptSwap(schedule, (Demand) swapMove.getLeftEntity(), (Demand) swapMove.getRightEntity());
+        }
+        return true;
+    }
+
+    static boolean acceptChange(Schedule schedule, Demand demand, Resource toResource) {
+        ConflictIndex conflictIndex = schedule.getConflictIndex();
+        return conflictIndex == null || !isConflicting(conflictIndex, schedule.getDemands(), demand, toResource, null);
+    }
+
+    static boolean acceptSwap(Schedule schedule, Demand leftDemand, Demand rightDemand) {
+        ConflictIndex conflictIndex = schedule.getConflictIndex();
+        return conflictIndex == null
+                || (!isConflicting(conflictIndex, schedule.getDemands(), leftDemand, rightDemand.getResource(), rightDemand)
+                        && !isConflicting(conflictIndex, schedule.getDemands(), rightDemand, leftDemand.getResource(), leftDemand));
+    }
+
+    private static boolean isConflicting(ConflictIndex conflictIndex, List<Demand> demands, Demand demand,
+            Resource resource, Demand ignoredDemand) {
+        int position = demand.getConflictIndexPosition();
+        // The index is stale if demands were added or removed without rebuilding it, see Schedule#rebuildConflictIndex()
+        if (resource == null || position < 0 || conflictIndex.size() != demands.size() || demands.get(position) != demand) {
+            return false;
+        }
+        return conflictIndex.isConflictingWithResource(demands, position, resource, ignoredDemand);
+    }
+}
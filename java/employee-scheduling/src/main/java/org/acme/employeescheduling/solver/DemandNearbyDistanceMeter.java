@@ -0,0 +1,28 @@
+package org.acme.employeescheduling.solver;
+
+import java.util.Objects;
+
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+
+import org.acme.employeescheduling.domain.Demand;
+
+/**
+ * Distance between demands for nearby selection: the minutes between their starts,
+ * with demands at another construction site slightly farther than those at the same site and time.
+ * <p>
+ * The overlap, rest-time, shift change and construction site constraints only join demands a few days apart,
+ * so swapping the resources of demands close in time is far more likely to change the score.
+ */
+public class DemandNearbyDistanceMeter implements NearbyDistanceMeter<Demand, Demand> {
+
+    private static final double OTHER_CONSTRUCTION_SITE_DISTANCE = 0.5;
+
+    @Override
+    public double getNearbyDistance(Demand origin, Demand destination) {
+        double distance = Math.abs(destination.getStartMinute() - origin.getStartMinute());
+        if (!Objects.equals(origin.getConstructionSite(), destination.getConstructionSite())) {
+            distance += OTHER_CONSTRUCTION_SITE_DISTANCE;
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,135 @@
+package org.acme.employeescheduling.solver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Splits a schedule along the connected components of its eligibility graph,
+ * in which a demand is linked to every resource in its value range.
+ * <p>
+ * No move can assign a demand to a resource of another component,
+ * so the components only interact through the constraints over all resources, such as the load balance.
+ * Solving them apart loses that interaction, which the score of the merged schedule shows again.
+ */
+public final class EligibilityComponents {
+
+    private EligibilityComponents() {
+    }
+
+    /**
+     * Packs the components into at most the given number of parts, largest component first into the smallest part.
+     * Demands without eligible resources are in no part; they stay unassigned.
+     *
+     * @param schedule with its indexes built, see {@link Schedule#buildIndexes()}
+     * @return the parts, each with the demands and resources of its components and its own indexes, largest first
+     */
+    public static List<Schedule> split(Schedule schedule, int maxPartCount) {
+        if (maxPartCount < 1) {
+            throw new IllegalArgumentException("The maxPartCount (" + maxPartCount + ") must be at least 1.");
+        }
+        List<Resource> resources = schedule.getResources();
+        Map<Resource, Integer> resourceIndexes = new HashMap<>(resources.size() * 2);
+        for (int i = 0; i < resources.size(); i++) {
+            resourceIndexes.put(resources.get(i), i);
+        }
+        int[] parents = new int[resources.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        // Demands with the same requirements share their eligible resources list, see EligibilityIndex
+        Map<List<Resource>, Boolean> linkedRanges = new IdentityHashMap<>();
+        for (Demand demand : schedule.getDemands()) {
+            List<Resource> eligibleResources = demand.getEligibleResources();
+            if (eligibleResources == null || eligibleResources.size() < 2 || linkedRanges.put(eligibleResources, true) != null) {
+                continue;
+            }
+            int first = resourceIndexes.get(eligibleResources.get(0));
+            for (int i = 1; i < eligibleResources.size(); i++) {
+                union(parents, first, resourceIndexes.get(eligibleResources.get(i)));
+            }
+        }
+
+        Map<Integer, Component> components = new HashMap<>();
+        for (int i = 0; i < resources.size(); i++) {
+            components.computeIfAbsent(find(parents, i), root -> new Component()).resources.add(resources.get(i));
+        }
+        for (Demand demand : schedule.getDemands()) {
+            List<Resource> eligibleResources = demand.getEligibleResources();
+            if (eligibleResources != null && !eligibleResources.isEmpty()) {
+                int root = find(parents, resourceIndexes.get(eligibleResources.get(0)));
+                components.get(root).demands.add(demand);
+            }
+        }
+
+        List<Component> sortedComponents = new ArrayList<>(components.values());
+        sortedComponents.removeIf(component -> component.demands.isEmpty());
+        sortedComponents.sort(Comparator.comparingInt((Component component) -> component.demands.size()).reversed());
+        int partCount = Math.min(maxPartCount, sortedComponents.size());
+        PriorityQueue<Component> parts = new PriorityQueue<>(Math.max(1, partCount),
+                Comparator.comparingInt((Component part) -> part.demands.size()));
+        for (Component component : sortedComponents) {
+            if (parts.size() < partCount) {
+                parts.add(component);
+            } else {
+                Component smallestPart = parts.poll();
+                smallestPart.resources.addAll(component.resources);
+                smallestPart.demands.addAll(component.demands);
+                parts.add(smallestPart);
+            }
+        }
+        return parts.stream()
+                .sorted(Comparator.comparingInt((Component part) -> part.demands.size()).reversed())
+                // Indexes of the part; the eligible resources of a demand are all in its component, so they stay the same
+                .map(part -> new Schedule(part.resources, part.demands))
+                .toList();
+    }
+
+    /**
+     * @return the whole schedule with the demands of every part solution instead of the original ones
+     */
+    public static Schedule merge(Schedule schedule, Collection<Schedule> partSolutions) {
+        Map<String, Demand> solvedDemands = new HashMap<>();
+        for (Schedule partSolution : partSolutions) {
+            for (Demand demand : partSolution.getDemands()) {
+                solvedDemands.put(demand.getId(), demand);
+            }
+        }
+        List<Demand> mergedDemands = new ArrayList<>(schedule.getDemands().size());
+        for (Demand demand : schedule.getDemands()) {
+            mergedDemands.add(solvedDemands.getOrDefault(demand.getId(), demand));
+        }
+        return new Schedule(schedule.getResources(), mergedDemands);
+    }
+
+    private static int find(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parents, int i, int j) {
+        int rootI = find(parents, i);
+        int rootJ = find(parents, j);
+        if (rootI != rootJ) {
+            parents[rootJ] = rootI;
+        }
+    }
+
+    private static final class Component {
+
+        final List<Resource> resources = new ArrayList<>();
+        final List<Demand> demands = new ArrayList<>();
+    }
+}
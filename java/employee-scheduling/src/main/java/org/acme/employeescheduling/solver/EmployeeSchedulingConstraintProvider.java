@@ -1,40 +1,25 @@
 package org.acme.employeescheduling.solver;
 
 import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
-import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.greaterThan;
 import static ai.timefold.solver.core.api.score.stream.Joiners.lessThanOrEqual;
 import static ai.timefold.solver.core.api.score.stream.Joiners.overlapping;
 
-import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
-import ai.timefold.solver.core.api.score.stream.Joiners;
-import java.math.BigDecimal;
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.function.Function;
-
-import ai.timefold.solver.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
 import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
-import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintStream;
+import ai.timefold.solver.core.api.score.stream.bi.BiJoiner;
 
+import org.acme.employeescheduling.domain.ConflictIndex;
 import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.FixedPointScore;
 import org.acme.employeescheduling.domain.Resource;
 
 public class EmployeeSchedulingConstraintProvider implements ConstraintProvider {
 
-    private static int getMinuteOverlap(Demand demand1, Demand demand2) {
-        // The overlap of two timeslot occurs in the range common to both timeslots.
-        // Both timeslots are active after the higher of their two start times,
-        // and before the lower of their two end times.
-        LocalDateTime shift1Start = demand1.getStart();
-        LocalDateTime shift1End = demand1.getEnd();
-        LocalDateTime shift2Start = demand2.getStart();
-        LocalDateTime shift2End = demand2.getEnd();
-        return (int) Duration.between((shift1Start.isAfter(shift2Start)) ? shift1Start : shift2Start,
-                (shift1End.isBefore(shift2End)) ? shift1End : shift2End).toMinutes();
-    }
+    static final int MIN_HOURS_BETWEEN_SHIFTS = ConflictIndex.MIN_HOURS_BETWEEN_SHIFTS;
 
     @Override
     public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
@@ -43,7 +28,7 @@ public class EmployeeSchedulingConstraintProvider implements ConstraintProvider
                 requiredResourceCategory(constraintFactory),
                 requiredQualifications(constraintFactory),
                 noOverlappingShifts(constraintFactory),
-                atLeastHoursBetweenTwoShifts(constraintFactory, 12),
+                atLeastHoursBetweenTwoShifts(constraintFactory, MIN_HOURS_BETWEEN_SHIFTS),
                 unavailableEmployee(constraintFactory),
 //                // Soft constraints
                 undesiredDayForEmployee(constraintFactory),
@@ -59,60 +44,71 @@ public class EmployeeSchedulingConstraintProvider implements ConstraintProvider
     Constraint unassignedDemandPenalty(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Demand.class)
             .filter(demand -> demand.isAssigned())
-            .reward(HardSoftBigDecimalScore.ONE_SOFT)
+            // Medium, so assigning a demand outweighs every soft constraint
+            .reward(FixedPointScore.ONE_MEDIUM)
             .asConstraint("Unassigned demand penalty");
         }
 
     Constraint requiredResourceCategory(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Demand.class)
-                .filter(shift -> shift.isAssigned() && !shift.getResource().getResourceCategory().equals(shift.getRequiredResourceCategory()))
-                .penalize(HardSoftBigDecimalScore.ONE_SOFT)
+                .filter(shift -> shift.isAssigned() && !shift.hasMatchingResourceCategory())
+                .penalize(FixedPointScore.ONE_SOFT)
                 .asConstraint("Missing required resource category");
     }
 
     Constraint requiredQualifications(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Demand.class)
-                .filter(shift -> shift.isAssigned() && !shift.getResource().getQualifications().containsAll(shift.getRequiredQualifications()))
-                .penalize(HardSoftBigDecimalScore.ONE_HARD)
+                .filter(shift -> shift.isAssigned() && !shift.hasRequiredQualifications())
+                .penalize(FixedPointScore.ONE_HARD)
                 .asConstraint("Missing required qualification");
     }
 
     Constraint noOverlappingShifts(ConstraintFactory constraintFactory) {
-        return constraintFactory.forEachUniquePair(Demand.class, equal(Demand::getResource),
-                overlapping(Demand::getStart, Demand::getEnd))
-                .penalize(HardSoftBigDecimalScore.ONE_HARD,
-                        EmployeeSchedulingConstraintProvider::getMinuteOverlap)
+        return conflictingShifts(constraintFactory)
+                .filter((shift1, shift2) -> shift1.getOverlapInMinutes(shift2) > 0)
+                .penalize(FixedPointScore.ONE_HARD, Demand::getOverlapInMinutes)
                 .asConstraint("Overlapping shift");
     }
 
+    /**
+     * @param minHoursBetweenShifts at most {@link ConflictIndex#MIN_HOURS_BETWEEN_SHIFTS}, the rest window of the join
+     */
     Constraint atLeastHoursBetweenTwoShifts(ConstraintFactory constraintFactory, int minHoursBetweenShifts) {
-        return constraintFactory.forEach(Demand.class)
-                .join(Demand.class, equal(Demand::getResource), lessThanOrEqual(Demand::getEnd, Demand::getStart))
-                .filter((firstShift,
-                        secondShift) -> Duration.between(firstShift.getEnd(), secondShift.getStart()).toHours() < minHoursBetweenShifts)
-                .penalize(HardSoftBigDecimalScore.ONE_HARD,
-                        (firstShift, secondShift) -> {
-                            int breakLength = (int) Duration.between(firstShift.getEnd(), secondShift.getStart()).toMinutes();
-                            return (minHoursBetweenShifts * 60) - breakLength;
-                        })
+        return conflictingShifts(constraintFactory)
+                .filter((shift1, shift2) -> breakLength(shift1, shift2) >= 0
+                        && breakLength(shift1, shift2) < minHoursBetweenShifts * 60)
+                .penalize(FixedPointScore.ONE_HARD,
+                        (shift1, shift2) -> (minHoursBetweenShifts * 60) - breakLength(shift1, shift2))
                 .asConstraint("At least %d hours between 2 shifts".formatted( minHoursBetweenShifts));
     }
 
+    // The pairs of the exclusion set ex_ij, see ConflictIndex: both constraints start from the same join,
+    // so the solver shares its nodes and each move only revisits the resource's demands in the rest window.
+    private static BiConstraintStream<Demand, Demand> conflictingShifts(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Demand.class, equal(Demand::getResource),
+                overlapping(Demand::getStartMinute, Demand::getConflictWindowEndMinute));
+    }
+
+    // Minutes from the end of the earlier shift to the start of the later one, negative if they overlap
+    private static int breakLength(Demand shift1, Demand shift2) {
+        return shift1.getStartMinute() <= shift2.getStartMinute()
+                ? shift2.getStartMinute() - shift1.getEndMinute()
+                : shift1.getStartMinute() - shift2.getEndMinute();
+    }
+
     Constraint unavailableEmployee(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Demand.class)
-                .join(Resource.class, equal(Demand::getResource, Function.identity()))
-                .flattenLast(Resource::getUnavailableDates)
-                .filter(Demand::isOverlappingWithDate)
-                .penalize(HardSoftBigDecimalScore.ONE_HARD, Demand::getOverlappingDurationInMinutes)
+                .filter(demand -> demand.getResource().getUnavailableCalendar().isTouchedBy(demand))
+                .penalize(FixedPointScore.ONE_HARD,
+                        demand -> demand.getResource().getUnavailableCalendar().getTouchedMinutes(demand))
                 .asConstraint("Unavailable employee");
     }
 
     Constraint undesiredDayForEmployee(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Demand.class)
-                .join(Resource.class, equal(Demand::getResource, Function.identity()))
-                .flattenLast(Resource::getUndesiredDates)
-                .filter(Demand::isOverlappingWithDate)
-                .penalize(HardSoftBigDecimalScore.ofSoft(BigDecimal.valueOf(1.0/60)), Demand::getOverlappingDurationInMinutes)
+                .filter(demand -> demand.getResource().getUndesiredCalendar().isTouchedBy(demand))
+                .penalize(FixedPointScore.ofSoftFraction(1, 60),
+                        demand -> demand.getResource().getUndesiredCalendar().getTouchedMinutes(demand))
                 .asConstraint("Undesired day for employee");
     }
 
@@ -122,29 +118,31 @@ public class EmployeeSchedulingConstraintProvider implements ConstraintProvider
                 .complement(Resource.class, e -> 0) // Include all employees which are not assigned to any shift.c
                 .groupBy(ConstraintCollectors.loadBalance((employee, shiftCount) -> employee,
                         (employee, shiftCount) -> shiftCount))
-                .penalizeBigDecimal(HardSoftBigDecimalScore.ONE_SOFT, LoadBalance::unfairness)
+                .penalizeLong(FixedPointScore.SCALED_SOFT, loadBalance -> FixedPointScore.scale(loadBalance.unfairness()))
                 .asConstraint("Balance employee shift assignments");
     }
 
-    private Constraint constructionSiteSwitching(ConstraintFactory constraintFactory) {
+    Constraint constructionSiteSwitching(ConstraintFactory constraintFactory) {
         return constraintFactory
             .forEach(Demand.class)
             .join(Demand.class,
                 equal(Demand::getResource),
-                filtering((d1, d2) -> consecutiveDemandsWithinDays(d1, d2, 2)))  //
+                startingAtOrAfter(),
+                startingWithinDays(2))
             .filter((demand1, demand2) -> demand1.getConstructionSite().equals(demand2.getConstructionSite()))
-            .reward(HardSoftBigDecimalScore.ONE_SOFT) // TODO may need a reward value
+            .reward(FixedPointScore.ONE_SOFT) // TODO may need a reward value
             .asConstraint("Resource switching construction site");
     }
 
-    private Constraint shiftChanges(ConstraintFactory constraintFactory) {
+    Constraint shiftChanges(ConstraintFactory constraintFactory) {
         return constraintFactory
             .forEach(Demand.class)
             .join(Demand.class,
                 equal(Demand::getResource),
-                filtering((d1, d2) -> consecutiveDemandsWithinDays(d1, d2, 1)))
+                startingAtOrAfter(),
+                startingWithinDays(1))
             .filter((demand1, demand2) -> demand1.isNightShift() != demand2.isNightShift())
-            .penalize(HardSoftBigDecimalScore.ONE_SOFT)
+            .penalize(FixedPointScore.ONE_SOFT)
             .asConstraint("Shift changes");
     }
 
@@ -155,16 +153,20 @@ public class EmployeeSchedulingConstraintProvider implements ConstraintProvider
             .complement(Resource.class, e -> 0) // Include all employees which are not assigned to any shift.c
             .groupBy(ConstraintCollectors.loadBalance((employee, shiftCount) -> employee,
                 (employee, shiftCount) -> shiftCount))
-            .penalizeBigDecimal(HardSoftBigDecimalScore.ONE_SOFT, LoadBalance::unfairness)
+            .penalizeLong(FixedPointScore.SCALED_SOFT, loadBalance -> FixedPointScore.scale(loadBalance.unfairness()))
             .asConstraint("Balance employee night shift assignments");
     }
 
-    private boolean consecutiveDemandsWithinDays(Demand demand1, Demand demand2, int daysBetween) {
-        if (demand1.getStart().isAfter(demand2.getStart())) {
-            return false;
-        }
+    // The second demand starts at or after the first one ...
+    private static BiJoiner<Demand, Demand> startingAtOrAfter() {
+        return lessThanOrEqual(Demand::getStartMinute, Demand::getStartMinute);
+    }
 
-        return Duration.between(demand1.getStart(), demand2.getStart()).toDays() <= daysBetween;
+    // ... and less than daysBetween + 1 whole days later.
+    // Both bounds are indexed, so a move only revisits the resource's demands in that window, not all of them.
+    private static BiJoiner<Demand, Demand> startingWithinDays(int daysBetween) {
+        return greaterThan(demand -> demand.getStartMinute() + (daysBetween + 1) * Demand.MINUTES_PER_DAY,
+                Demand::getStartMinute);
     }
 
         Constraint teamStability(ConstraintFactory constraintFactory) {
@@ -174,7 +176,7 @@ public class EmployeeSchedulingConstraintProvider implements ConstraintProvider
                         demand -> demand.getResource().getTeam(), // Group by team
                         ConstraintCollectors.count())             // Count team members
                 .filter((shiftId, team, count) -> count > 1)        // More than 1 team member
-                .reward(HardSoftBigDecimalScore.ONE_SOFT, 
+                .reward(FixedPointScore.ONE_SOFT, 
                         (shiftId, team, count) -> calculateTeamBonus(count))
                 .asConstraint("Reward team cohesion");
         }
@@ -0,0 +1,108 @@
+package org.acme.employeescheduling.solver;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Splits a schedule into consecutive time windows that are solved one after the other.
+ * <p>
+ * A window problem holds the demands that start in the window or in the overlap after it, which the solver may move,
+ * and every demand that starts before the window, pinned to the resource an earlier window gave it.
+ * The pinned demands keep the rest-time, shift-change and balance constraints correct across window boundaries.
+ * Demands that start after the overlap are left out, so the search does not spend moves on them.
+ * The overlap is solved again, unpinned, as the start of the next window.
+ */
+public final class RollingHorizon {
+
+    /**
+     * @param overlapEnd the end of the overlap with the next window; demands starting before it are movable
+     */
+    public record Window(LocalDateTime start, LocalDateTime end, LocalDateTime overlapEnd) {
+
+        public boolean isMovable(Demand demand) {
+            return !demand.getStart().isBefore(start) && demand.getStart().isBefore(overlapEnd);
+        }
+
+        public boolean isBefore(Demand demand) {
+            return demand.getStart().isBefore(start);
+        }
+    }
+
+    private RollingHorizon() {
+    }
+
+    /**
+     * @return consecutive windows from the day of the first demand start until after the last demand start
+     */
+    public static List<Window> windows(Collection<Demand> demands, Duration windowLength, Duration overlap) {
+        if (windowLength.isZero() || windowLength.isNegative() || overlap.isNegative()) {
+            throw new IllegalArgumentException("The window length (" + windowLength + ") must be positive and the overlap ("
+                    + overlap + ") must not be negative.");
+        }
+        LocalDateTime firstStart = demands.stream().map(Demand::getStart).min(Comparator.naturalOrder()).orElse(null);
+        LocalDateTime lastStart = demands.stream().map(Demand::getStart).max(Comparator.naturalOrder()).orElse(null);
+        List<Window> windows = new ArrayList<>();
+        if (firstStart == null) {
+            return windows;
+        }
+        LocalDateTime windowStart = firstStart.toLocalDate().atStartOfDay();
+        while (!windowStart.isAfter(lastStart)) {
+            LocalDateTime windowEnd = windowStart.plus(windowLength);
+            windows.add(new Window(windowStart, windowEnd, windowEnd.plus(overlap)));
+            windowStart = windowEnd;
+        }
+        return windows;
+    }
+
+    /**
+     * Builds the problem of a window from copies of the demands, so solving it does not touch the given demands.
+     *
+     * @param demands the committed demands of the whole schedule
+     */
+    public static Schedule windowProblem(List<Resource> resources, Collection<Demand> demands, Window window) {
+        List<Demand> windowDemands = new ArrayList<>();
+        for (Demand demand : demands) {
+            if (window.isBefore(demand)) {
+                Demand pinnedDemand = demand.copy();
+                pinnedDemand.setPinned(true);
+                windowDemands.add(pinnedDemand);
+            } else if (window.isMovable(demand)) {
+                windowDemands.add(demand.copy());
+            }
+        }
+        Schedule problem = new Schedule();
+        problem.setResources(resources);
+        problem.setDemands(windowDemands);
+        return problem;
+    }
+
+    /**
+     * @return the whole schedule with the movable demands of the window taken from its solution
+     */
+    public static Schedule merge(List<Resource> resources, Collection<Demand> demands, Schedule windowSolution, Window window) {
+        Map<String, Demand> solvedDemands = new HashMap<>();
+        for (Demand demand : windowSolution.getDemands()) {
+            if (window.isMovable(demand)) {
+                solvedDemands.put(demand.getId(), demand);
+            }
+        }
+        List<Demand> mergedDemands = new ArrayList<>(demands.size());
+        for (Demand demand : demands) {
+            mergedDemands.add(solvedDemands.getOrDefault(demand.getId(), demand));
+        }
+        Schedule merged = new Schedule();
+        merged.setResources(resources);
+        merged.setDemands(mergedDemands);
+        return merged;
+    }
+}
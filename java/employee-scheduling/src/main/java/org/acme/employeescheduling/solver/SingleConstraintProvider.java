@@ -0,0 +1,50 @@
+package org.acme.employeescheduling.solver;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+/**
+ * One or more constraints of the application, by name, or all of them if no name is set.
+ * The names are set through the constraint provider custom properties of the score director factory config.
+ */
+public class SingleConstraintProvider implements ConstraintProvider {
+
+    private final EmployeeSchedulingConstraintProvider delegate = new EmployeeSchedulingConstraintProvider();
+
+    private Set<String> constraintNames = Set.of();
+
+    public void setConstraintName(String constraintName) {
+        this.constraintNames = constraintName == null || constraintName.isEmpty() ? Set.of() : Set.of(constraintName);
+    }
+
+    /**
+     * @param constraintNames separated by commas
+     */
+    public void setConstraintNames(String constraintNames) {
+        this.constraintNames = Arrays.stream(constraintNames.split(","))
+                .map(String::trim)
+                .filter(constraintName -> !constraintName.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        Constraint[] constraints = delegate.defineConstraints(constraintFactory);
+        if (constraintNames.isEmpty()) {
+            return constraints;
+        }
+        Constraint[] selectedConstraints = Arrays.stream(constraints)
+                .filter(constraint -> constraintNames.contains(constraint.getConstraintRef().constraintName()))
+                .toArray(Constraint[]::new);
+        if (selectedConstraints.length != constraintNames.size()) {
+            throw new IllegalArgumentException("The constraintNames (" + constraintNames + ") are not all constraints of "
+                    + EmployeeSchedulingConstraintProvider.class.getSimpleName() + ".");
+        }
+        return selectedConstraints;
+    }
+}
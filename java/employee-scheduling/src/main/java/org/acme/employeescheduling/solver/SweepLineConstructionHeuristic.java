@@ -0,0 +1,131 @@
+package org.acme.employeescheduling.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.api.solver.phase.PhaseCommand;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Assigns the unassigned demands in one sweep through time, as a warm start for local search.
+ * <p>
+ * The demands are visited by start. Per resource, the sweep keeps the minute it is free again:
+ * the end of its last shift plus the minimum rest time.
+ * Each demand goes to the best eligible resource that is free and available on its days, preferring,
+ * in order: the required resource category, the construction site of the resource's last shift,
+ * a team that already works the same shift, a desired day and the fewest shifts so far.
+ * A demand without such a resource stays unassigned, for the construction heuristic after this phase.
+ * <p>
+ * Unlike the construction heuristic, this does not calculate a score per candidate,
+ * so it takes milliseconds on the exports.
+ */
+public class SweepLineConstructionHeuristic implements PhaseCommand<Schedule> {
+
+    private static final int REST_MINUTES = EmployeeSchedulingConstraintProvider.MIN_HOURS_BETWEEN_SHIFTS * 60;
+    // How many demands to assign between checks for termination
+    private static final int TERMINATION_CHECK_INTERVAL = 1024;
+
+    @Override
+    public void changeWorkingSolution(ScoreDirector<Schedule> scoreDirector, BooleanSupplier isPhaseTerminated) {
+        sweep(scoreDirector.getWorkingSolution().getDemands(), isPhaseTerminated, (demand, resource) -> {
+            scoreDirector.beforeVariableChanged(demand, "resource");
+            demand.setResource(resource);
+            scoreDirector.afterVariableChanged(demand, "resource");
+        });
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * @param assigner called for every unassigned, unpinned demand that gets a resource
+     */
+    static void sweep(List<Demand> demands, BooleanSupplier isTerminated, BiConsumer<Demand, Resource> assigner) {
+        List<Demand> sortedDemands = new ArrayList<>(demands);
+        sortedDemands.sort(Comparator.comparingInt(Demand::getStartMinute).thenComparingInt(Demand::getEndMinute));
+        Map<Resource, ResourceState> states = new HashMap<>();
+        Map<String, Set<String>> teamsByShiftId = new HashMap<>();
+        int visitedCount = 0;
+        for (Demand demand : sortedDemands) {
+            if (++visitedCount % TERMINATION_CHECK_INTERVAL == 0 && isTerminated.getAsBoolean()) {
+                return;
+            }
+            Resource resource = demand.getResource();
+            if (resource == null && !demand.isPinned()) {
+                resource = pickResource(demand, states, teamsByShiftId.getOrDefault(demand.getShiftId(), Set.of()));
+                if (resource == null) {
+                    continue;
+                }
+                assigner.accept(demand, resource);
+            } else if (resource == null) {
+                continue;
+            }
+            states.computeIfAbsent(resource, key -> new ResourceState()).assign(demand);
+            if (resource.getTeam() != null) {
+                teamsByShiftId.computeIfAbsent(demand.getShiftId(), key -> new HashSet<>()).add(resource.getTeam());
+            }
+        }
+    }
+
+    private static Resource pickResource(Demand demand, Map<Resource, ResourceState> states, Set<String> shiftTeams) {
+        List<Resource> eligibleResources = demand.getEligibleResources();
+        if (eligibleResources == null) {
+            return null;
+        }
+        Resource bestResource = null;
+        int bestPreference = -1;
+        int bestAssignedCount = Integer.MAX_VALUE;
+        for (Resource resource : eligibleResources) {
+            ResourceState state = states.get(resource);
+            if (state != null && state.freeMinute > demand.getStartMinute()
+                    || resource.getUnavailableCalendar().isTouchedBy(demand)) {
+                continue;
+            }
+            // Higher bits weigh more than all lower bits together
+            int preference = 0;
+            if (resource.getResourceCategoryCode() == demand.getRequiredResourceCategoryCode()) {
+                preference |= 8;
+            }
+            if (state != null && Objects.equals(state.lastConstructionSite, demand.getConstructionSite())) {
+                preference |= 4;
+            }
+            if (resource.getTeam() != null && shiftTeams.contains(resource.getTeam())) {
+                preference |= 2;
+            }
+            if (!resource.getUndesiredCalendar().isTouchedBy(demand)) {
+                preference |= 1;
+            }
+            int assignedCount = state == null ? 0 : state.assignedCount;
+            if (preference > bestPreference || preference == bestPreference && assignedCount < bestAssignedCount) {
+                bestResource = resource;
+                bestPreference = preference;
+                bestAssignedCount = assignedCount;
+            }
+        }
+        return bestResource;
+    }
+
+    private static final class ResourceState {
+
+        int freeMinute = Integer.MIN_VALUE;
+        String lastConstructionSite;
+        int assignedCount = 0;
+
+        void assign(Demand demand) {
+            // Pre-assigned demands may overlap, so keep the latest free minute
+            freeMinute = Math.max(freeMinute, demand.getEndMinute() + REST_MINUTES);
+            lastConstructionSite = demand.getConstructionSite();
+            assignedCount++;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.acme.employeescheduling.solver.change;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Adds an unassigned demand to a running job.
+ */
+public record AddDemandProblemChange(Demand demand) implements ProblemChange<Schedule> {
+
+    @Override
+    public void doChange(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        // The resource of the request is not a working object; the solver assigns one
+        demand.setResource(null);
+        problemChangeDirector.addEntity(demand, addedDemand -> {
+            workingSolution.getEligibilityIndex().attach(addedDemand);
+            workingSolution.getDemands().add(addedDemand);
+            workingSolution.rebuildConflictIndex();
+        });
+    }
+}
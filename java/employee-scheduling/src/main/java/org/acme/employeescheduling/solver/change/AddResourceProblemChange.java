@@ -0,0 +1,19 @@
+package org.acme.employeescheduling.solver.change;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Adds a resource to a running job and makes it eligible for the demands it is qualified for.
+ */
+public record AddResourceProblemChange(Resource resource) implements ProblemChange<Schedule> {
+
+    @Override
+    public void doChange(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        problemChangeDirector.addProblemFact(resource, workingSolution.getResources()::add);
+        ProblemChanges.reattachDemands(workingSolution, problemChangeDirector);
+    }
+}
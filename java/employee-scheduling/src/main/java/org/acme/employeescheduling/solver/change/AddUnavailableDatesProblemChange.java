@@ -0,0 +1,33 @@
+package org.acme.employeescheduling.solver.change;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Marks a resource of a running job as unavailable on additional dates, for example when it calls in sick.
+ */
+public record AddUnavailableDatesProblemChange(String resourceName, Set<LocalDate> dates) implements ProblemChange<Schedule> {
+
+    @Override
+    public void doChange(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        Resource resource = ProblemChanges.findResource(workingSolution, resourceName).orElse(null);
+        if (resource == null) {
+            return;
+        }
+        problemChangeDirector.changeProblemProperty(resource, changedResource -> {
+            // Replace rather than mutate the set, so the resource rebuilds its day calendar
+            Set<LocalDate> unavailableDates = changedResource.getUnavailableDates() == null
+                    ? new HashSet<>()
+                    : new HashSet<>(changedResource.getUnavailableDates());
+            unavailableDates.addAll(dates);
+            changedResource.setUnavailableDates(unavailableDates);
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package org.acme.employeescheduling.solver.change;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Replaces the time, construction site and requirements of a demand of a running job.
+ * The demand is unassigned if its resource no longer has the required qualifications.
+ *
+ * @param demand the new values; its ID selects the demand to change
+ */
+public record ChangeDemandProblemChange(Demand demand) implements ProblemChange<Schedule> {
+
+    @Override
+    public void doChange(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        Demand workingDemand = ProblemChanges.findDemand(workingSolution, demand.getId()).orElse(null);
+        if (workingDemand == null) {
+            return;
+        }
+        problemChangeDirector.changeProblemProperty(workingDemand, changedDemand -> {
+            changedDemand.setStart(demand.getStart());
+            changedDemand.setEnd(demand.getEnd());
+            changedDemand.setConstructionSite(demand.getConstructionSite());
+            changedDemand.setRequiredResourceCategory(demand.getRequiredResourceCategory());
+            changedDemand.setRequiredQualifications(demand.getRequiredQualifications());
+            workingSolution.getEligibilityIndex().attach(changedDemand);
+        });
+        // The demand may have moved in time
+        workingSolution.rebuildConflictIndex();
+        if (workingDemand.getResource() != null
+                && !workingSolution.getEligibilityIndex().isEligible(workingDemand.getResource(), workingDemand)) {
+            problemChangeDirector.changeVariable(workingDemand, "resource", changedDemand -> changedDemand.setResource(null));
+        }
+    }
+}
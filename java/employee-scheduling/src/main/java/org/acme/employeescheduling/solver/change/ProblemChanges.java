@@ -0,0 +1,41 @@
+package org.acme.employeescheduling.solver.change;
+
+import java.util.Optional;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.EligibilityIndex;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+final class ProblemChanges {
+
+    private ProblemChanges() {
+    }
+
+    // Problem changes run on the solver thread, where an exception would fail the whole job.
+    // So a demand or resource that is gone by the time the change runs makes the change a no-op instead.
+
+    static Optional<Demand> findDemand(Schedule workingSolution, String demandId) {
+        return workingSolution.getDemands().stream()
+                .filter(demand -> demand.getId().equals(demandId))
+                .findFirst();
+    }
+
+    static Optional<Resource> findResource(Schedule workingSolution, String resourceName) {
+        return workingSolution.getResources().stream()
+                .filter(resource -> resource.getName().equals(resourceName))
+                .findFirst();
+    }
+
+    /**
+     * Recomputes the value ranges of all demands after the resources changed.
+     */
+    static void reattachDemands(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        EligibilityIndex eligibilityIndex = workingSolution.rebuildEligibilityIndex();
+        for (Demand demand : workingSolution.getDemands()) {
+            problemChangeDirector.changeProblemProperty(demand, eligibilityIndex::attach);
+        }
+    }
+}
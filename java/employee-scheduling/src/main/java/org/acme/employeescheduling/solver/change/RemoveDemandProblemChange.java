@@ -0,0 +1,21 @@
+package org.acme.employeescheduling.solver.change;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Removes a cancelled demand from a running job.
+ */
+public record RemoveDemandProblemChange(String demandId) implements ProblemChange<Schedule> {
+
+    @Override
+    public void doChange(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        ProblemChanges.findDemand(workingSolution, demandId).ifPresent(
+                demand -> problemChangeDirector.removeEntity(demand, removedDemand -> {
+                    workingSolution.getDemands().remove(removedDemand);
+                    workingSolution.rebuildConflictIndex();
+                }));
+    }
+}
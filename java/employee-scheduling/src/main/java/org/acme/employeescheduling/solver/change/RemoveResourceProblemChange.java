@@ -0,0 +1,29 @@
+package org.acme.employeescheduling.solver.change;
+
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+
+/**
+ * Removes a resource from a running job and unassigns its demands.
+ */
+public record RemoveResourceProblemChange(String resourceName) implements ProblemChange<Schedule> {
+
+    @Override
+    public void doChange(Schedule workingSolution, ProblemChangeDirector problemChangeDirector) {
+        Resource resource = ProblemChanges.findResource(workingSolution, resourceName).orElse(null);
+        if (resource == null) {
+            return;
+        }
+        for (Demand demand : workingSolution.getDemands()) {
+            if (resource.equals(demand.getResource())) {
+                problemChangeDirector.changeVariable(demand, "resource", changedDemand -> changedDemand.setResource(null));
+            }
+        }
+        problemChangeDirector.removeProblemFact(resource, workingSolution.getResources()::remove);
+        ProblemChanges.reattachDemands(workingSolution, problemChangeDirector);
+    }
+}
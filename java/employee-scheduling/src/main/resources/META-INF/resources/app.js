@@ -1,4 +1,4 @@
-let autoRefreshIntervalId = null;
+let scheduleEventSource = null;
 const zoomMin = 2 * 1000 * 60 * 60 * 24 // 2 day in milliseconds
 const zoomMax = 4 * 7 * 1000 * 60 * 60 * 24 // 4 weeks in milliseconds
 
@@ -8,6 +8,7 @@ const UNDESIRED_COLOR = '#f57900' // Tango Orange
 let demoDataId = null;
 let scheduleId = null;
 let loadedSchedule = null;
+let loadedScheduleVersion = null;
 
 const byResourcePanel = document.getElementById("byResourcePanel");
 const byResourceTimelineOptions = {
@@ -146,8 +147,10 @@ function refreshSchedule() {
 
         path = "/demo-data/" + demoDataId;
     }
-    $.getJSON(path, function (schedule) {
+    $.getJSON(path, function (schedule, textStatus, xhr) {
         loadedSchedule = schedule;
+        const version = xhr.getResponseHeader("Schedule-Version");
+        loadedScheduleVersion = version == null ? null : Number(version);
         renderSchedule(schedule);
     })
         .fail(function (xhr, ajaxOptions, thrownError) {
@@ -380,34 +383,53 @@ function refreshSolvingButtons(solving) {
     if (solving) {
         $("#solveButton").hide();
         $("#stopSolvingButton").show();
-        if (autoRefreshIntervalId == null) {
-            autoRefreshIntervalId = setInterval(refreshSchedule, 2000);
+        if (scheduleEventSource == null) {
+            subscribeToScheduleEvents();
         }
     } else {
         $("#solveButton").show();
         $("#stopSolvingButton").hide();
-        if (autoRefreshIntervalId != null) {
-            clearInterval(autoRefreshIntervalId);
-            autoRefreshIntervalId = null;
+        if (scheduleEventSource != null) {
+            scheduleEventSource.close();
+            scheduleEventSource = null;
         }
     }
 }
 
-function refreshSolvingButtons(solving) {
-    if (solving) {
-        $("#solveButton").hide();
-        $("#stopSolvingButton").show();
-        if (autoRefreshIntervalId == null) {
-            autoRefreshIntervalId = setInterval(refreshSchedule, 2000);
-        }
-    } else {
-        $("#solveButton").show();
-        $("#stopSolvingButton").hide();
-        if (autoRefreshIntervalId != null) {
-            clearInterval(autoRefreshIntervalId);
-            autoRefreshIntervalId = null;
-        }
+function subscribeToScheduleEvents() {
+    // The server pushes every new best solution, instead of the page polling for the full schedule
+    const since = loadedScheduleVersion == null ? "" : `?since=${loadedScheduleVersion}`;
+    scheduleEventSource = new EventSource(`/schedules/${scheduleId}/events${since}`);
+    scheduleEventSource.addEventListener("bestSolution", function (event) {
+        applyScheduleEvent(JSON.parse(event.data));
+    });
+    scheduleEventSource.addEventListener("failure", function (event) {
+        showSimpleError("Solving has failed: " + JSON.parse(event.data).message);
+        refreshSolvingButtons(false);
+    });
+}
+
+function applyScheduleEvent(scheduleEvent) {
+    // Skip events the schedule already caught up with
+    if (loadedSchedule == null || (loadedScheduleVersion != null && scheduleEvent.version <= loadedScheduleVersion)) {
+        return;
+    }
+    const demandsById = new Map(loadedSchedule.demands.map(demand => [demand.id, demand]));
+    const resourcesByName = new Map(loadedSchedule.resources.map(resource => [resource.name, resource]));
+    const assignments = Object.entries(scheduleEvent.assignments);
+    // Demands or resources added or removed by a problem change are only in the full schedule
+    if (scheduleEvent.removedDemandIds.length > 0 || assignments.some(([demandId, resourceName]) =>
+        !demandsById.has(demandId) || (resourceName != null && !resourcesByName.has(resourceName)))) {
+        refreshSchedule();
+        return;
     }
+    assignments.forEach(([demandId, resourceName]) => {
+        demandsById.get(demandId).resource = resourceName == null ? null : resourcesByName.get(resourceName);
+    });
+    loadedSchedule.score = scheduleEvent.score;
+    loadedSchedule.solverStatus = scheduleEvent.solverStatus;
+    loadedScheduleVersion = scheduleEvent.version;
+    renderSchedule(loadedSchedule);
 }
 
 function calculateColorForString(str) {
@@ -0,0 +1,54 @@
+package org.acme.employeescheduling.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConflictIndexTest {
+
+    @Test
+    void buildFindsOverlapsAndShortRests() {
+        Demand morning = demand("1", "2025-05-01T06:00:00", "2025-05-01T14:00:00");
+        // Overlaps the morning shift
+        Demand day = demand("2", "2025-05-01T12:00:00", "2025-05-01T20:00:00");
+        // 11 hours after the morning shift ends, 5 hours after the day shift ends
+        Demand nextMorning = demand("3", "2025-05-02T01:00:00", "2025-05-02T09:00:00");
+        // Exactly 12 hours after the day shift ends
+        Demand nextDay = demand("4", "2025-05-02T08:00:00", "2025-05-02T16:00:00");
+        // Listed out of time order on purpose
+        ConflictIndex conflictIndex = ConflictIndex.build(List.of(nextDay, morning, nextMorning, day));
+
+        Assertions.assertThat(conflictIndex.size()).isEqualTo(4);
+        Assertions.assertThat(morning.getConflictIndexPosition()).isEqualTo(1);
+        Assertions.assertThat(conflictIndex.isConflicting(1, 3)).isTrue();
+        Assertions.assertThat(conflictIndex.isConflicting(3, 1)).isTrue();
+        Assertions.assertThat(conflictIndex.isConflicting(1, 2)).isTrue();
+        Assertions.assertThat(conflictIndex.isConflicting(3, 2)).isTrue();
+        Assertions.assertThat(conflictIndex.isConflicting(3, 0)).isFalse();
+        // nextMorning and nextDay overlap
+        Assertions.assertThat(conflictIndex.isConflicting(0, 2)).isTrue();
+        Assertions.assertThat(conflictIndex.isConflicting(0, 1)).isFalse();
+        Assertions.assertThat(conflictIndex.getConflictCount()).isEqualTo(4);
+        Assertions.assertThat(conflictIndex.getDegree(2)).isEqualTo(3);
+    }
+
+    @Test
+    void isConflictingWithResourceSkipsTheIgnoredDemand() {
+        Resource amy = new Resource("Amy", "Category", Set.of("A"), null, null, null);
+        Demand first = demand("1", "2025-05-01T06:00:00", "2025-05-01T14:00:00");
+        Demand second = demand("2", "2025-05-01T20:00:00", "2025-05-02T04:00:00");
+        first.setResource(amy);
+        List<Demand> demands = List.of(first, second);
+        ConflictIndex conflictIndex = ConflictIndex.build(demands);
+
+        Assertions.assertThat(conflictIndex.isConflictingWithResource(demands, 1, amy, null)).isTrue();
+        Assertions.assertThat(conflictIndex.isConflictingWithResource(demands, 1, amy, first)).isFalse();
+        Assertions.assertThat(conflictIndex.isConflictingWithResource(demands, 0, amy, null)).isFalse();
+    }
+
+    private static Demand demand(String id, String start, String end) {
+        return new Demand(id, LocalDateTime.parse(start), LocalDateTime.parse(end), "Location", "Category", null, Set.of("A"));
+    }
+}
@@ -0,0 +1,32 @@
+package org.acme.employeescheduling.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DayCalendarTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2025, 5, 1);
+
+    @Test
+    void containsTest() {
+        DayCalendar calendar = DayCalendar.of(Set.of(DAY_1, DAY_1.plusDays(2), DAY_1.plusDays(100)));
+        Assertions.assertThat(calendar.contains((int) DAY_1.toEpochDay())).isTrue();
+        Assertions.assertThat(calendar.contains((int) DAY_1.plusDays(1).toEpochDay())).isFalse();
+        Assertions.assertThat(calendar.contains((int) DAY_1.plusDays(100).toEpochDay())).isTrue();
+        Assertions.assertThat(calendar.contains((int) DAY_1.minusDays(1).toEpochDay())).isFalse();
+        Assertions.assertThat(calendar.contains((int) DAY_1.plusDays(200).toEpochDay())).isFalse();
+        Assertions.assertThat(DayCalendar.of(null).contains((int) DAY_1.toEpochDay())).isFalse();
+    }
+
+    @Test
+    void touchedMinutesTest() {
+        Demand nightShift = new Demand(DAY_1.atTime(22, 0), DAY_1.plusDays(1).atTime(6, 30), null, null, null, null);
+        Assertions.assertThat(DayCalendar.of(Set.of(DAY_1)).getTouchedMinutes(nightShift)).isEqualTo(119);
+        Assertions.assertThat(DayCalendar.of(Set.of(DAY_1.plusDays(1))).getTouchedMinutes(nightShift)).isEqualTo(390);
+        Assertions.assertThat(DayCalendar.of(Set.of(DAY_1, DAY_1.plusDays(1))).getTouchedMinutes(nightShift)).isEqualTo(509);
+        Assertions.assertThat(DayCalendar.of(Set.of(DAY_1.plusDays(2))).isTouchedBy(nightShift)).isFalse();
+    }
+}
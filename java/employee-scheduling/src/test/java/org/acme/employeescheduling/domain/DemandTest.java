@@ -1,9 +1,17 @@
 package org.acme.employeescheduling.domain;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
 public class DemandTest {
 
     @Test
@@ -18,4 +26,54 @@ public class DemandTest {
             .isTrue();
     }
 
+    @Test
+    void timeFieldsTest() {
+        Demand demand = new Demand(LocalDateTime.parse("1970-01-02T22:00:00"), LocalDateTime.parse("1970-01-03T06:30:00"), null, null, null, null);
+        Assertions.assertThat(demand.getStartMinute()).isEqualTo(Demand.MINUTES_PER_DAY + 22 * 60);
+        Assertions.assertThat(demand.getEndMinute()).isEqualTo(2 * Demand.MINUTES_PER_DAY + 6 * 60 + 30);
+        Assertions.assertThat(demand.getStartDay()).isEqualTo(1);
+        Assertions.assertThat(demand.getEndDay()).isEqualTo(2);
+
+        demand.setEnd(LocalDateTime.parse("1970-01-02T23:30:00"));
+        Assertions.assertThat(demand.getEndDay()).isEqualTo(1);
+        Assertions.assertThat(demand.isNightShift()).isFalse();
+    }
+
+    @Test
+    void overlapInMinutesTest() {
+        Demand demand = new Demand(LocalDateTime.parse("2025-05-01T22:00:00"), LocalDateTime.parse("2025-05-02T06:30:00"), null, null, null, null);
+        Demand overlapping = new Demand(LocalDateTime.parse("2025-05-02T05:00:00"), LocalDateTime.parse("2025-05-02T13:00:00"), null, null, null, null);
+        Demand later = new Demand(LocalDateTime.parse("2025-05-02T18:00:00"), LocalDateTime.parse("2025-05-03T02:00:00"), null, null, null, null);
+        Assertions.assertThat(demand.getOverlapInMinutes(overlapping)).isEqualTo(90);
+        Assertions.assertThat(overlapping.getOverlapInMinutes(demand)).isEqualTo(90);
+        Assertions.assertThat(demand.getOverlapInMinutes(later)).isZero();
+        Assertions.assertThat(demand.getOverlappingDurationInMinutes(LocalDate.parse("2025-05-01"))).isEqualTo(119);
+        Assertions.assertThat(demand.getOverlappingDurationInMinutes(LocalDate.parse("2025-05-02"))).isEqualTo(390);
+    }
+
+    @Test
+    void unassignedDemandJsonRoundTripTest() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Demand demand = new Demand("1", LocalDateTime.parse("2025-05-01T22:00:00"), LocalDateTime.parse("2025-05-02T06:30:00"),
+                "Bern", "Polier/in", null, Set.of("Sicherheitschef/in WK"));
+
+        String json = objectMapper.writeValueAsString(demand);
+        JsonNode tree = objectMapper.readTree(json);
+        Assertions.assertThat(tree.has("resource")).isTrue();
+        Assertions.assertThat(tree.get("resource").isNull()).isTrue();
+        Assertions.assertThat(tree.has("resourceCategoryMatching")).isFalse();
+        Assertions.assertThat(tree.has("qualificationMatching")).isFalse();
+
+        // Like the JobStore and the Quarkus ObjectMapper, skip the read-only properties such as assigned
+        Demand reloaded = objectMapper.readerFor(Demand.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json);
+        Assertions.assertThat(reloaded.getId()).isEqualTo("1");
+        Assertions.assertThat(reloaded.getStart()).isEqualTo(demand.getStart());
+        Assertions.assertThat(reloaded.getEnd()).isEqualTo(demand.getEnd());
+        Assertions.assertThat(reloaded.getShiftId()).isEqualTo(demand.getShiftId());
+        Assertions.assertThat(reloaded.getRequiredResourceCategory()).isEqualTo("Polier/in");
+        Assertions.assertThat(reloaded.getRequiredQualifications()).containsExactly("Sicherheitschef/in WK");
+        Assertions.assertThat(reloaded.getResource()).isNull();
+    }
 }
@@ -0,0 +1,51 @@
+package org.acme.employeescheduling.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EligibilityIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-05-01T08:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2025-05-01T16:00:00");
+
+    @Test
+    void qualificationScoreTest() {
+        QualificationDictionary dictionary = new QualificationDictionary();
+        Resource resource = new Resource("Amy", "Category", Set.of("A", "B", "C"), null, null, null);
+        resource.encode(dictionary);
+        Assertions.assertThat(EligibilityIndex.qualificationScore(resource, dictionary.encode(Set.of("A", "D")))).isZero();
+        Assertions.assertThat(EligibilityIndex.qualificationScore(resource, dictionary.encode(Set.of("A", "B", "C")))).isEqualTo(1);
+        Assertions.assertThat(EligibilityIndex.qualificationScore(resource, dictionary.encode(Set.of("A")))).isEqualTo(3);
+    }
+
+    @Test
+    void buildSetsEligibleResourcesPerDemand() {
+        Resource amy = new Resource("Amy", "Category", Set.of("A", "B"), null, null, null);
+        Resource beth = new Resource("Beth", "Category", Set.of("A"), null, null, null);
+        Demand demandA = new Demand("1", START, END, "Location", "Category", null, Set.of("A"));
+        Demand demandB = new Demand("2", START, END, "Location", "Category", null, Set.of("B"));
+        Schedule schedule = new Schedule(List.of(amy, beth), List.of(demandA, demandB));
+
+        Assertions.assertThat(demandA.getEligibleResources()).containsExactly(amy, beth);
+        Assertions.assertThat(demandB.getEligibleResources()).containsExactly(amy);
+        Assertions.assertThat(schedule.getEligibilityIndex().score(amy, demandA)).isEqualTo(2);
+        Assertions.assertThat(schedule.getEligibilityIndex().isEligible(beth, demandB)).isFalse();
+    }
+
+    @Test
+    void settingBothListsBuildsTheIndexes() {
+        Resource amy = new Resource("Amy", "Category", Set.of("A"), null, null, null);
+        Demand demand = new Demand("1", START, END, "Location", "Category", null, Set.of("A"));
+        Schedule schedule = new Schedule();
+        // In the order Jackson might set them
+        schedule.setDemands(List.of(demand));
+        Assertions.assertThat(demand.getEligibleResources()).isNull();
+
+        schedule.setResources(List.of(amy));
+        Assertions.assertThat(demand.getEligibleResources()).containsExactly(amy);
+        Assertions.assertThat(demand.getConflictIndexPosition()).isZero();
+    }
+}
@@ -0,0 +1,36 @@
+package org.acme.employeescheduling.domain;
+
+import java.math.BigDecimal;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FixedPointScoreTest {
+
+    @Test
+    void formatsInPoints() {
+        HardMediumSoftLongScore score = HardMediumSoftLongScore.of(-2 * FixedPointScore.SCALE, 3 * FixedPointScore.SCALE,
+                -FixedPointScore.SCALE / 8);
+
+        Assertions.assertThat(FixedPointScore.format(score)).isEqualTo("-2hard/3medium/-0.125soft");
+        Assertions.assertThat(FixedPointScore.format(HardMediumSoftLongScore.ZERO)).isEqualTo("0hard/0medium/0soft");
+    }
+
+    @Test
+    void parsesWhatItFormats() {
+        HardMediumSoftLongScore score = HardMediumSoftLongScore.of(-FixedPointScore.SCALE, 0L, -FixedPointScore.SCALE / 60 * 7);
+
+        Assertions.assertThat(FixedPointScore.parse(FixedPointScore.format(score))).isEqualTo(score);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> FixedPointScore.parse("0hard/-1soft"));
+    }
+
+    @Test
+    void scalesFractions() {
+        Assertions.assertThat(FixedPointScore.ofSoftFraction(1, 60).softScore()).isEqualTo(FixedPointScore.SCALE / 60);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> FixedPointScore.ofSoftFraction(1, 7));
+        Assertions.assertThat(FixedPointScore.scale(new BigDecimal("1.5"))).isEqualTo(FixedPointScore.SCALE * 3 / 2);
+        Assertions.assertThat(FixedPointScore.unscale(FixedPointScore.SCALE * 3 / 2)).isEqualByComparingTo("1.5");
+    }
+}
@@ -0,0 +1,78 @@
+package org.acme.employeescheduling.domain;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class QualificationDictionaryTest {
+
+    private final QualificationDictionary dictionary = new QualificationDictionary();
+
+    @Test
+    void containsAllTest() {
+        long[] available = dictionary.encode(Set.of("Sicherheitschef/in WK", "Schalten und Erden WK"));
+        Assertions.assertThat(QualificationDictionary.containsAll(available,
+                dictionary.encode(Set.of("Sicherheitschef/in WK")))).isTrue();
+        Assertions.assertThat(QualificationDictionary.containsAll(available,
+                dictionary.encode(Set.of()))).isTrue();
+        Assertions.assertThat(QualificationDictionary.containsAll(available,
+                dictionary.encode(Set.of("Sicherheitschef/in WK", "Tm 232")))).isFalse();
+    }
+
+    @Test
+    void containsAllBeyondFirstWordTest() {
+        Set<String> many = IntStream.range(0, 130).mapToObj(i -> "Qualification " + i).collect(Collectors.toSet());
+        long[] available = dictionary.encode(many);
+        Assertions.assertThat(available.length).isGreaterThan(1);
+        Assertions.assertThat(QualificationDictionary.containsAll(available,
+                dictionary.encode(Set.of("Qualification 129")))).isTrue();
+        Assertions.assertThat(QualificationDictionary.containsAll(dictionary.encode(Set.of("Qualification 0")),
+                available)).isFalse();
+        Assertions.assertThat(QualificationDictionary.countExtra(available,
+                dictionary.encode(Set.of("Qualification 0")))).isEqualTo(129);
+    }
+
+    @Test
+    void categoryCodeTest() {
+        Assertions.assertThat(dictionary.categoryCode("Polier/in"))
+                .isEqualTo(dictionary.categoryCode("Polier/in"))
+                .isNotEqualTo(dictionary.categoryCode("Gleismonteur/in"));
+        Assertions.assertThat(dictionary.categoryCode(null)).isEqualTo(QualificationDictionary.NO_CATEGORY);
+    }
+
+    @Test
+    void vocabularyRejectsNewNamesWhenFull() {
+        QualificationDictionary.Vocabulary vocabulary = new QualificationDictionary.Vocabulary("qualification", 2);
+        Assertions.assertThat(vocabulary.codeOf("A")).isZero();
+        Assertions.assertThat(vocabulary.codeOf("B")).isEqualTo(1);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> vocabulary.codeOf("C"));
+        Assertions.assertThat(vocabulary.codeOf("A")).isZero();
+        Assertions.assertThat(vocabulary.size()).isEqualTo(2);
+    }
+
+    @Test
+    void dictionariesAreIndependent() {
+        QualificationDictionary other = new QualificationDictionary();
+        other.encode(Set.of("Tm 232"));
+        Assertions.assertThat(dictionary.qualificationBit("Sicherheitschef/in WK")).isZero();
+        Assertions.assertThat(other.qualificationBit("Sicherheitschef/in WK")).isEqualTo(1);
+    }
+
+    @Test
+    void scheduleEncodesWithItsOwnDictionary() {
+        Resource amy = new Resource("Amy", "TFF", Set.of("A"), null, null, null);
+        Schedule schedule = new Schedule(List.of(amy), List.of());
+        Resource beth = new Resource("Beth", "TFF", Set.of("A"), null, null, null);
+        Schedule otherSchedule = new Schedule(List.of(beth), List.of());
+
+        Assertions.assertThat(amy.getQualificationDictionary()).isSameAs(schedule.getQualificationDictionary());
+        Assertions.assertThat(beth.getQualificationDictionary()).isSameAs(otherSchedule.getQualificationDictionary())
+                .isNotSameAs(schedule.getQualificationDictionary());
+        // A schedule derived from the first one shares its resources, and so its dictionary
+        Schedule derivedSchedule = new Schedule(List.of(amy), List.of());
+        Assertions.assertThat(derivedSchedule.getQualificationDictionary()).isSameAs(schedule.getQualificationDictionary());
+    }
+}
@@ -0,0 +1,63 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveTerminationTest {
+
+    private final AdaptiveTermination adaptiveTermination = new AdaptiveTermination(Duration.ofSeconds(15),
+            Duration.ofSeconds(10), Duration.ofMinutes(10), Duration.ofSeconds(20), 0.001);
+
+    @Test
+    void spentLimitGrowsWithTheDemandCountWithinBounds() {
+        Assertions.assertThat(adaptiveTermination.getDefaultOptions(schedule(50)).spentLimit()).isEqualTo(Duration.ofSeconds(10));
+        Assertions.assertThat(adaptiveTermination.getDefaultOptions(schedule(10_000)).spentLimit())
+                .isEqualTo(Duration.ofSeconds(150));
+        Assertions.assertThat(adaptiveTermination.getDefaultOptions(schedule(50_000)).spentLimit())
+                .isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void improvementWindowFitsTwiceInTheSpentLimit() {
+        Assertions.assertThat(adaptiveTermination.getDefaultOptions(schedule(50)).improvementWindow())
+                .isEqualTo(Duration.ofSeconds(5));
+        Assertions.assertThat(adaptiveTermination.getDefaultOptions(schedule(10_000)).improvementWindow())
+                .isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void toTerminationConfig() {
+        TerminationConfig terminationConfig = adaptiveTermination.toTerminationConfig(
+                new AdaptiveTermination.Options(Duration.ofSeconds(60), Duration.ofSeconds(5), 0.01));
+        Assertions.assertThat(terminationConfig.getSpentLimit()).isEqualTo(Duration.ofSeconds(60));
+        Assertions.assertThat(terminationConfig.getDiminishedReturnsConfig().getSlidingWindowDuration())
+                .isEqualTo(Duration.ofSeconds(5));
+        Assertions.assertThat(terminationConfig.getDiminishedReturnsConfig().getMinimumImprovementRatio()).isEqualTo(0.01);
+
+        Assertions.assertThat(adaptiveTermination.toTerminationConfig(
+                new AdaptiveTermination.Options(Duration.ofSeconds(60), null, 0.0)).getDiminishedReturnsConfig()).isNull();
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> adaptiveTermination.toTerminationConfig(
+                new AdaptiveTermination.Options(Duration.ZERO, null, 0.0)));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> adaptiveTermination.toTerminationConfig(
+                new AdaptiveTermination.Options(Duration.ofSeconds(60), Duration.ofSeconds(5), 0.0)));
+    }
+
+    private static Schedule schedule(int demandCount) {
+        LocalDateTime start = LocalDateTime.parse("2025-05-01T08:00:00");
+        List<Demand> demands = new ArrayList<>(demandCount);
+        for (int i = 0; i < demandCount; i++) {
+            demands.add(new Demand(String.valueOf(i), start, start.plusHours(8), "Bern", "TFF", null, Set.of("A")));
+        }
+        return new Schedule(List.of(), demands);
+    }
+}
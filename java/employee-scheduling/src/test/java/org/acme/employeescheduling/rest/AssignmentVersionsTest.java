@@ -0,0 +1,67 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AssignmentVersionsTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-05-01T08:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2025-05-01T16:00:00");
+
+    private final Resource amy = new Resource("Amy", "TFF", Set.of(), Set.of(), Set.of(), "FR_1");
+    private final Resource beth = new Resource("Beth", "TFF", Set.of(), Set.of(), Set.of(), "FR_1");
+
+    @Test
+    void sinceReturnsOnlyLaterChanges() {
+        AssignmentVersions versions = AssignmentVersions.of(schedule(demand("1", null), demand("2", null)));
+
+        ScheduleDelta first = versions.update(schedule(demand("1", amy), demand("2", null)));
+        Assertions.assertThat(first.version()).isEqualTo(1);
+        Assertions.assertThat(first.assignments()).containsOnlyKeys("1").containsEntry("1", "Amy");
+
+        versions.update(schedule(demand("1", amy), demand("2", beth)));
+        ScheduleDelta third = versions.update(schedule(demand("2", amy), demand("3", beth)));
+        Assertions.assertThat(third.assignments()).containsOnlyKeys("2", "3");
+        Assertions.assertThat(third.removedDemandIds()).containsExactly("1");
+
+        Schedule latest = schedule(demand("2", amy), demand("3", beth));
+        Assertions.assertThat(versions.since(1, latest).assignments()).containsOnlyKeys("2", "3");
+        Assertions.assertThat(versions.since(1, latest).removedDemandIds()).containsExactly("1");
+        Assertions.assertThat(versions.since(3, latest).assignments()).isEmpty();
+        Assertions.assertThat(versions.since(3, latest).version()).isEqualTo(3);
+    }
+
+    @Test
+    void compactedHistoryReturnsEveryAssignment() {
+        AssignmentVersions versions = AssignmentVersions.of(schedule(demand("1", null), demand("2", null)));
+        Schedule latest = schedule(demand("1", amy), demand("2", null));
+        versions.update(latest);
+
+        versions.compact();
+
+        Assertions.assertThat(versions.since(0, latest).assignments())
+                .containsOnlyKeys("1", "2")
+                .containsEntry("1", "Amy")
+                .containsEntry("2", null);
+        Assertions.assertThat(versions.since(1, latest).assignments()).isEmpty();
+    }
+
+    private static Demand demand(String id, Resource resource) {
+        return new Demand(id, START, END, "Bern", "TFF", resource, Set.of());
+    }
+
+    private static Schedule schedule(Demand... demands) {
+        Schedule schedule = new Schedule();
+        schedule.setResources(List.of());
+        schedule.setDemands(new ArrayList<>(Arrays.asList(demands)));
+        return schedule;
+    }
+}
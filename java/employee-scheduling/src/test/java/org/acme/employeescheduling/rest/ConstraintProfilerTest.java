@@ -0,0 +1,65 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.rest.ConstraintProfile.ConstraintCost;
+import org.acme.employeescheduling.solver.EmployeeSchedulingConstraintProvider;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConstraintProfilerTest {
+
+    private static final int SCORE_CALCULATION_COUNT = 200;
+
+    @Test
+    void profilesEveryConstraintOnItsOwnAndTogether() {
+        SolverFactory<Schedule> solverFactory = SolverFactory.create(new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(Demand.class)
+                .withConstraintProviderClass(EmployeeSchedulingConstraintProvider.class));
+        SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager = SolutionManager.create(solverFactory);
+        ConstraintProfiler profiler = new ConstraintProfiler(solutionManager, null, SCORE_CALCULATION_COUNT);
+
+        Resource amy = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        Resource beth = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_2");
+        Demand first = demand("1", "2025-05-01T08:00:00", amy);
+        Demand overlapping = demand("2", "2025-05-01T12:00:00", amy);
+        Demand nextDay = demand("3", "2025-05-02T08:00:00", beth);
+        Schedule schedule = new Schedule(List.of(amy, beth), new ArrayList<>(List.of(first, overlapping, nextDay)));
+
+        ConstraintProfile profile = profiler.profile(schedule);
+
+        Assertions.assertThat(profile.complete()).isTrue();
+        Assertions.assertThat(profile.error()).isNull();
+        Assertions.assertThat(profile.constraints()).extracting(ConstraintCost::constraintName)
+                .contains("Overlapping shift", "Reward team cohesion", "Balance employee night shift assignments");
+        Assertions.assertThat(profile.constraints())
+                .filteredOn(cost -> cost.constraintName().equals("Overlapping shift"))
+                .singleElement()
+                .satisfies(cost -> Assertions.assertThat(cost.matchCount()).isEqualTo(1));
+        Assertions.assertThat(profile.constraints()).isSortedAccordingTo(
+                (left, right) -> Long.compare(right.wallTimeMillis(), left.wallTimeMillis()));
+        Assertions.assertThat(profile.all().constraintName()).isNull();
+        Assertions.assertThat(profile.all().scoreCalculationCount()).isEqualTo(SCORE_CALCULATION_COUNT);
+        Assertions.assertThat(profile.all().scoreCalculationSpeed()).isPositive();
+        // Profiling works on copies
+        Assertions.assertThat(first.getResource()).isSameAs(amy);
+        Assertions.assertThat(overlapping.getResource()).isSameAs(amy);
+    }
+
+    private static Demand demand(String id, String start, Resource resource) {
+        LocalDateTime startDateTime = LocalDateTime.parse(start);
+        return new Demand(id, startDateTime, startDateTime.plusHours(8), "Bern", "TFF", resource, Set.of("A"));
+    }
+}
@@ -0,0 +1,48 @@
+package org.acme.employeescheduling.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DemandDataProviderTest {
+
+    private static final String HEADER = "BSA-ID;Ressourcenkategorie-Typ;Schichtstart;Schichtende;Qualifikationen\n";
+
+    @Test
+    void importDemandsDetectsFormatsAndRejectsBadRows() throws IOException {
+        String csv = HEADER
+                + "Bern Wankdorf;Sicherheitswärter/in;01.05.2025 22:00;02.05.2025 06:00;A,B\n"
+                + "Bern Wankdorf;Sicherheitswärter/in;2025-05-02 22:00;2025-05-03 06:00;A\n"
+                + "Thun;Sicherheitschef/in;02.05.2025 08:00;02.05.2025 16:00;\n";
+        byte[] bytes = csv.getBytes(StandardCharsets.ISO_8859_1);
+
+        DemandDataProvider.DemandImport demandImport =
+                DemandDataProvider.importDemands(new ByteArrayInputStream(bytes), bytes.length);
+
+        Assertions.assertThat(demandImport.rowCount()).isEqualTo(3);
+        Assertions.assertThat(demandImport.rejectedRowCount()).isEqualTo(1);
+        Assertions.assertThat(demandImport.rejectedRows()).singleElement().asString().startsWith("line 3");
+        Assertions.assertThat(demandImport.demands()).hasSize(2);
+        Assertions.assertThat(demandImport.demands().get(0).getRequiredResourceCategory()).isEqualTo("Sicherheitswärter/in");
+        Assertions.assertThat(demandImport.demands().get(0).getStart()).isEqualTo(LocalDateTime.parse("2025-05-01T22:00:00"));
+        Assertions.assertThat(demandImport.demands().get(0).getRequiredQualifications()).isEqualTo(Set.of("A", "B"));
+        Assertions.assertThat(demandImport.demands().get(1).getRequiredQualifications()).isEmpty();
+    }
+
+    @Test
+    void importDemandsSkipsUtf8ByteOrderMark() throws IOException {
+        String csv = "\uFEFF" + HEADER + "Bern;Sicherheitswärter/in;2025-05-01 08:00;2025-05-01 16:00;A\n";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+
+        DemandDataProvider.DemandImport demandImport =
+                DemandDataProvider.importDemands(new ByteArrayInputStream(bytes), -1);
+
+        Assertions.assertThat(demandImport.rejectedRowCount()).isZero();
+        Assertions.assertThat(demandImport.demands()).singleElement()
+                .satisfies(demand -> Assertions.assertThat(demand.getConstructionSite()).isEqualTo("Bern"));
+    }
+}
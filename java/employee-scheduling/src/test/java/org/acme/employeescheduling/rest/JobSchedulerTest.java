@@ -0,0 +1,95 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JobSchedulerTest {
+
+    private final JobScheduler jobScheduler = new JobScheduler(1, 2, Duration.ofSeconds(30));
+    private final List<String> startedJobIds = new ArrayList<>();
+
+    @Test
+    void urgentJobsStartBeforeEarlierBatchJobs() {
+        submit("running", JobScheduler.Priority.NORMAL);
+        submit("batch1", JobScheduler.Priority.BATCH);
+        submit("batch2", JobScheduler.Priority.BATCH);
+        submit("urgent", JobScheduler.Priority.URGENT);
+        Assertions.assertThat(startedJobIds).containsExactly("running");
+        Assertions.assertThat(jobScheduler.getQueuePosition("urgent")).hasValue(1);
+        Assertions.assertThat(jobScheduler.getQueuePosition("batch1")).hasValue(2);
+        Assertions.assertThat(jobScheduler.getQueuePosition("batch2")).hasValue(3);
+        Assertions.assertThat(jobScheduler.getQueuePosition("running")).isEmpty();
+
+        jobScheduler.finished("running");
+        Assertions.assertThat(startedJobIds).containsExactly("running", "urgent");
+        Assertions.assertThat(jobScheduler.getQueuePosition("batch1")).hasValue(1);
+
+        jobScheduler.finished("urgent");
+        jobScheduler.finished("urgent");
+        Assertions.assertThat(startedJobIds).containsExactly("running", "urgent", "batch1");
+    }
+
+    @Test
+    void fullQueueRejectsOnlyItsOwnPriority() {
+        submit("running", JobScheduler.Priority.NORMAL);
+        Assertions.assertThat(submit("batch1", JobScheduler.Priority.BATCH)).isTrue();
+        Assertions.assertThat(submit("batch2", JobScheduler.Priority.BATCH)).isTrue();
+        List<String> admittedJobIds = new ArrayList<>();
+        Assertions.assertThat(jobScheduler.submit("batch3", JobScheduler.Priority.BATCH,
+                () -> admittedJobIds.add("batch3"), () -> startedJobIds.add("batch3"))).isFalse();
+        Assertions.assertThat(admittedJobIds).isEmpty();
+        Assertions.assertThat(jobScheduler.getQueuePosition("batch3")).isEmpty();
+        Assertions.assertThat(submit("urgent", JobScheduler.Priority.URGENT)).isTrue();
+        Assertions.assertThat(jobScheduler.getRetryAfter()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void cancelledJobsNeverStart() {
+        submit("running", JobScheduler.Priority.NORMAL);
+        submit("queued", JobScheduler.Priority.NORMAL);
+        Assertions.assertThat(jobScheduler.cancel("queued")).isTrue();
+        Assertions.assertThat(jobScheduler.cancel("running")).isFalse();
+        jobScheduler.finished("running");
+        Assertions.assertThat(startedJobIds).containsExactly("running");
+    }
+
+    @Test
+    void failingStartFreesTheSlot() {
+        jobScheduler.submit("failing", JobScheduler.Priority.NORMAL, () -> {
+        }, () -> {
+            throw new IllegalStateException("Test failure.");
+        });
+        submit("next", JobScheduler.Priority.NORMAL);
+        Assertions.assertThat(startedJobIds).containsExactly("next");
+    }
+
+    @Test
+    void jobWithSeveralSlotsWaitsForAllOfThem() {
+        JobScheduler twoSlotScheduler = new JobScheduler(2, 2, Duration.ofSeconds(30));
+        twoSlotScheduler.submit("running", JobScheduler.Priority.NORMAL, () -> {
+        }, () -> startedJobIds.add("running"));
+        twoSlotScheduler.submit("decomposed", JobScheduler.Priority.NORMAL, 2, () -> {
+        }, () -> startedJobIds.add("decomposed"));
+        twoSlotScheduler.submit("single", JobScheduler.Priority.NORMAL, () -> {
+        }, () -> startedJobIds.add("single"));
+        // The free slot is not enough for the decomposed job, and the single job does not overtake it
+        Assertions.assertThat(startedJobIds).containsExactly("running");
+        Assertions.assertThat(twoSlotScheduler.getQueuePosition("single")).hasValue(2);
+
+        twoSlotScheduler.finished("running");
+        Assertions.assertThat(startedJobIds).containsExactly("running", "decomposed");
+        twoSlotScheduler.finished("decomposed");
+        Assertions.assertThat(startedJobIds).containsExactly("running", "decomposed", "single");
+        Assertions.assertThatThrownBy(() -> twoSlotScheduler.submit("tooLarge", JobScheduler.Priority.NORMAL, 3, () -> {
+        }, () -> startedJobIds.add("tooLarge"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean submit(String jobId, JobScheduler.Priority priority) {
+        return jobScheduler.submit(jobId, priority, () -> {
+        }, () -> startedJobIds.add(jobId));
+    }
+}
@@ -0,0 +1,129 @@
+package org.acme.employeescheduling.rest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import ai.timefold.solver.jackson.api.TimefoldJacksonModule;
+
+public class JobStoreTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(TimefoldJacksonModule.createModule());
+
+    @TempDir
+    Path parentDirectory;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void spillsLeastRecentlyAccessedFinishedJobAndReloadsIt() {
+        JobStore jobStore = new JobStore(OBJECT_MAPPER, 1, Long.MAX_VALUE, Duration.ofHours(1), parentDirectory, clock);
+        Path spillDirectory = jobStore.getSpillDirectory();
+        jobStore.putProblem("a", schedule("Amy"));
+        jobStore.markFinished("a");
+        clock.advance(Duration.ofMinutes(1));
+        jobStore.putProblem("b", schedule("Beth"));
+        jobStore.markFinished("b");
+
+        Assertions.assertThat(spillDirectory.resolve("a.json.gz")).exists();
+        Assertions.assertThat(spillDirectory.resolve("b.json.gz")).doesNotExist();
+
+        Schedule reloaded = jobStore.get("a").orElseThrow().schedule();
+        Assertions.assertThat(reloaded.getDemands()).singleElement()
+                .satisfies(demand -> Assertions.assertThat(demand.getResource().getName()).isEqualTo("Amy"));
+        Assertions.assertThat(spillDirectory.resolve("b.json.gz")).exists();
+        Assertions.assertThat(jobStore.jobIds()).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void keepsSolvingJobsAndDropsExpiredFinishedJobs() {
+        JobStore jobStore = new JobStore(OBJECT_MAPPER, 0, 0L, Duration.ofHours(1), parentDirectory, clock);
+        Path spillDirectory = jobStore.getSpillDirectory();
+        jobStore.putProblem("solving", schedule("Amy"));
+        jobStore.putProblem("finished", schedule("Beth"));
+        jobStore.markFinished("finished");
+        jobStore.putException("failed", new IllegalStateException("Solving failed."));
+
+        Assertions.assertThat(spillDirectory.resolve("solving.json.gz")).doesNotExist();
+        Assertions.assertThat(spillDirectory.resolve("finished.json.gz")).exists();
+
+        clock.advance(Duration.ofHours(2));
+
+        Assertions.assertThat(jobStore.jobIds()).containsExactly("solving");
+        Assertions.assertThat(jobStore.get("finished")).isEmpty();
+        Assertions.assertThat(spillDirectory.resolve("finished.json.gz")).doesNotExist();
+    }
+
+    @Test
+    void spillsIntoItsOwnDirectoryAndDeletesItOnClose() throws IOException {
+        Path foreignFile = Files.createFile(parentDirectory.resolve("other.json.gz"));
+        JobStore jobStore = new JobStore(OBJECT_MAPPER, 0, 0L, Duration.ofHours(1), parentDirectory, clock);
+        JobStore otherJobStore = new JobStore(OBJECT_MAPPER, 0, 0L, Duration.ofHours(1), parentDirectory, clock);
+        Assertions.assertThat(jobStore.getSpillDirectory()).hasParent(parentDirectory)
+                .isNotEqualTo(otherJobStore.getSpillDirectory());
+
+        jobStore.putProblem("a", schedule("Amy"));
+        jobStore.markFinished("a");
+        Assertions.assertThat(jobStore.getSpillDirectory().resolve("a.json.gz")).exists();
+
+        jobStore.close();
+        Assertions.assertThat(jobStore.getSpillDirectory()).doesNotExist();
+        Assertions.assertThat(otherJobStore.getSpillDirectory()).exists();
+        Assertions.assertThat(foreignFile).exists();
+    }
+
+    private static Schedule schedule(String resourceName) {
+        Resource resource = new Resource(resourceName, "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        Demand demand = new Demand("1", LocalDateTime.parse("2025-05-01T08:00:00"), LocalDateTime.parse("2025-05-01T16:00:00"),
+                "Bern", "TFF", null, Set.of("A"));
+        demand.setResource(resource);
+        Schedule schedule = new Schedule();
+        schedule.setResources(new ArrayList<>(List.of(resource)));
+        schedule.setDemands(new ArrayList<>(List.of(demand)));
+        return schedule;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-05-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.acme.employeescheduling.rest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.domain.solution.ConstraintWeightOverrides;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.solver.EmployeeSchedulingConstraintProvider;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PhasedSolverTest {
+
+    @Test
+    void feasibilityPhaseDisablesOnlySoftConstraints() {
+        SolverFactory<Schedule> solverFactory = SolverFactory.create(new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(Demand.class)
+                .withConstraintProviderClass(EmployeeSchedulingConstraintProvider.class));
+        SolutionManager<Schedule, HardMediumSoftLongScore> solutionManager = SolutionManager.create(solverFactory);
+        PhasedSolver phasedSolver = new PhasedSolver(solutionManager, null, null, Duration.ofSeconds(1));
+
+        Resource amy = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        LocalDateTime start = LocalDateTime.parse("2025-05-01T22:00:00");
+        Demand first = new Demand("1", start, start.plusHours(8), "Bern", "TFF", amy, Set.of("A"));
+        Demand overlapping = new Demand("2", start.plusHours(4), start.plusHours(12), "Bern", "TFF", amy, Set.of("A"));
+        Schedule schedule = new Schedule(List.of(amy), new ArrayList<>(List.of(first, overlapping)));
+
+        ConstraintWeightOverrides<HardMediumSoftLongScore> overrides = phasedSolver.withoutSoftConstraints(schedule);
+
+        Assertions.assertThat(overrides.getKnownConstraintNames())
+                .contains("Balance employee shift assignments", "Resource switching construction site")
+                .doesNotContain("Overlapping shift", "Unassigned demand penalty");
+        Assertions.assertThat(overrides.getConstraintWeight("Resource switching construction site")).isEqualTo(HardMediumSoftLongScore.ZERO);
+
+        schedule.setConstraintWeightOverrides(overrides);
+        HardMediumSoftLongScore feasibilityScore = solutionManager.update(schedule);
+        Assertions.assertThat(feasibilityScore.softScore()).isZero();
+        Assertions.assertThat(feasibilityScore.hardScore()).isNegative();
+    }
+}
@@ -0,0 +1,59 @@
+package org.acme.employeescheduling.rest;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReferenceDataCacheTest {
+
+    private static final String HEADER = "BSA-ID;Ressourcenkategorie-Typ;Schichtstart;Schichtende;Qualifikationen\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parsesOnceAndReturnsDistinctSortedValues() throws IOException {
+        Path csv = writeExport(tempDir.resolve("export.csv"),
+                "Thun;TFF;2025-05-01 08:00;2025-05-01 16:00;B,A\n"
+                        + "Bern;Begleiter/in;2025-05-02 08:00;2025-05-02 16:00;A\n");
+        URL url = csv.toUri().toURL();
+        ReferenceDataCache cache = new ReferenceDataCache();
+
+        ReferenceDataCache.ReferenceData data = cache.get(url);
+        Assertions.assertThat(data.resourceCategories()).containsExactly("Begleiter/in", "TFF");
+        Assertions.assertThat(data.qualifications()).containsExactly("A", "B");
+        Assertions.assertThat(cache.get(url)).isSameAs(data);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(1);
+        Assertions.assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reparsesOnlyWhenContentChanges() throws IOException {
+        Path csv = writeExport(tempDir.resolve("export.csv"), "Thun;TFF;2025-05-01 08:00;2025-05-01 16:00;A\n");
+        URL url = csv.toUri().toURL();
+        ReferenceDataCache cache = new ReferenceDataCache();
+        cache.get(url);
+
+        // Touched but unchanged
+        Files.setLastModifiedTime(csv, FileTime.from(Instant.parse("2025-01-01T00:00:00Z")));
+        cache.get(url);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(1);
+
+        writeExport(csv, "Thun;TFF;2025-05-01 08:00;2025-05-01 16:00;C\n");
+        Files.setLastModifiedTime(csv, FileTime.from(Instant.parse("2025-01-02T00:00:00Z")));
+        Assertions.assertThat(cache.get(url).qualifications()).containsExactly("C");
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(2);
+        Assertions.assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    private static Path writeExport(Path path, String rows) throws IOException {
+        return Files.writeString(path, HEADER + rows, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+package org.acme.employeescheduling.rest;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.acme.employeescheduling.domain.FixedPointScore;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SolverMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SolverMetrics solverMetrics = new SolverMetrics(registry, () -> 3);
+
+    @Test
+    void tracksQueuedAndActiveJobs() {
+        SolverMetrics.JobMetrics first = solverMetrics.submitted("a");
+        solverMetrics.submitted("b");
+        first.started();
+
+        Assertions.assertThat(gauge("solvers", "state", "active")).isEqualTo(1.0);
+        Assertions.assertThat(gauge("solvers", "state", "queued")).isEqualTo(1.0);
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "job_store.size").gauge().value()).isEqualTo(3.0);
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "solve.queue_wait").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void exportsBestScorePerJobUntilItEnds() {
+        SolverMetrics.JobMetrics jobMetrics = solverMetrics.submitted("a");
+        jobMetrics.started();
+        jobMetrics.bestSolution(schedule(-2, -10));
+
+        Assertions.assertThat(gauge("job.best_score", "level", "hard")).isEqualTo(-2.0);
+        Assertions.assertThat(gauge("job.best_score", "level", "soft")).isEqualTo(-10.0);
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "solve.time_to_feasible").timer().count()).isZero();
+
+        jobMetrics.bestSolution(schedule(0, -20));
+        Assertions.assertThat(gauge("job.best_score", "level", "hard")).isEqualTo(0.0);
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "solve.time_to_feasible").timer().count()).isEqualTo(1L);
+
+        jobMetrics.finished(schedule(0, -5));
+        // Only the first feasible solution counts
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "solve.time_to_feasible").timer().count()).isEqualTo(1L);
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "solve.duration").timer().count()).isEqualTo(1L);
+        Assertions.assertThat(registry.find(SolverMetrics.PREFIX + "job.best_score").gauges()).isEmpty();
+        Assertions.assertThat(registry.find(SolverMetrics.PREFIX + "job.score_calculation_speed").gauges()).isEmpty();
+        Assertions.assertThat(gauge("solvers", "state", "active")).isZero();
+    }
+
+    @Test
+    void countsFailures() {
+        SolverMetrics.JobMetrics jobMetrics = solverMetrics.submitted("a");
+        jobMetrics.started();
+        jobMetrics.failed();
+        // A late best solution of a failed job is ignored
+        jobMetrics.bestSolution(schedule(0, 0));
+
+        Assertions.assertThat(registry.get(SolverMetrics.PREFIX + "solve.failures").counter().count()).isEqualTo(1.0);
+        Assertions.assertThat(registry.find(SolverMetrics.PREFIX + "job.best_score").gauges()).isEmpty();
+        Assertions.assertThat(gauge("solvers", "state", "active")).isZero();
+    }
+
+    @Test
+    void endsJobsTerminatedBeforeTheyStarted() {
+        SolverMetrics.JobMetrics started = solverMetrics.submitted("started");
+        started.started();
+        solverMetrics.submitted("queued");
+        Assertions.assertThat(gauge("solvers", "state", "queued")).isEqualTo(1.0);
+
+        solverMetrics.terminatedEarly("queued");
+        solverMetrics.terminatedEarly("started");
+
+        Assertions.assertThat(gauge("solvers", "state", "queued")).isZero();
+        // A started job ends through its own callbacks
+        Assertions.assertThat(gauge("solvers", "state", "active")).isEqualTo(1.0);
+        Assertions.assertThat(registry.find(SolverMetrics.PREFIX + "job.score_calculation_speed").gauges()).hasSize(1);
+    }
+
+    private double gauge(String name, String tagKey, String tagValue) {
+        return registry.get(SolverMetrics.PREFIX + name).tag(tagKey, tagValue).gauge().value();
+    }
+
+    private static Schedule schedule(int hardScore, int softScore) {
+        Schedule schedule = new Schedule();
+        schedule.setScore(HardMediumSoftLongScore.of(hardScore * FixedPointScore.SCALE, 0L, softScore * FixedPointScore.SCALE));
+        return schedule;
+    }
+}
@@ -0,0 +1,103 @@
+package org.acme.employeescheduling.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.acme.employeescheduling.rest.SyntheticWorkloadGenerator.WorkloadParameters;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SyntheticWorkloadGeneratorTest {
+
+    private static final List<Demand> TEMPLATE_DEMANDS = templateDemands();
+    private static final SyntheticWorkloadGenerator GENERATOR = new SyntheticWorkloadGenerator(TEMPLATE_DEMANDS);
+
+    private static List<Demand> templateDemands() {
+        List<Demand> demands = new ArrayList<>(DemandDataProvider.readDemands(DemandDataProvider.MAI_BIS_AUGUST));
+        demands.addAll(DemandDataProvider.readDemands(DemandDataProvider.BERN_MAI_AUGUST));
+        return demands;
+    }
+
+    @Test
+    void generatesTheRequestedCounts() {
+        Schedule schedule = GENERATOR.generate(new WorkloadParameters(20_000, 1_000, GENERATOR.getExportWeeks(), 1L));
+
+        Assertions.assertThat(schedule.getDemands()).hasSize(20_000);
+        Assertions.assertThat(schedule.getResources()).hasSize(1_000);
+        Assertions.assertThat(schedule.getDemands().stream().map(Demand::getId).distinct()).hasSize(20_000);
+        Assertions.assertThat(schedule.getResources().stream().map(Resource::getName).distinct()).hasSize(1_000);
+        Assertions.assertThat(schedule.getDemands()).allMatch(demand -> demand.getResource() == null);
+    }
+
+    @Test
+    void sameSeedGivesSameSchedule() {
+        WorkloadParameters parameters = new WorkloadParameters(5_000, 200, 30, 7L);
+        Schedule first = GENERATOR.generate(parameters);
+        Schedule second = GENERATOR.generate(parameters);
+        Schedule otherSeed = GENERATOR.generate(new WorkloadParameters(5_000, 200, 30, 8L));
+
+        Assertions.assertThat(describe(second)).isEqualTo(describe(first));
+        Assertions.assertThat(describe(otherSeed)).isNotEqualTo(describe(first));
+    }
+
+    @Test
+    void keepsTheDistributionsOfTheExports() {
+        Schedule schedule = GENERATOR.generate(new WorkloadParameters(50_000, 2_000, GENERATOR.getExportWeeks(), 3L));
+        List<Demand> demands = schedule.getDemands();
+
+        Assertions.assertThat(nightShiftShare(demands)).isCloseTo(nightShiftShare(TEMPLATE_DEMANDS),
+                Assertions.within(0.1));
+        Set<String> templateCategories = TEMPLATE_DEMANDS.stream().map(Demand::getRequiredResourceCategory)
+                .collect(Collectors.toSet());
+        Set<Set<String>> templateQualifications = TEMPLATE_DEMANDS.stream().map(Demand::getRequiredQualifications)
+                .collect(Collectors.toSet());
+        Assertions.assertThat(demands).allMatch(demand -> templateCategories.contains(demand.getRequiredResourceCategory())
+                && templateQualifications.contains(demand.getRequiredQualifications()));
+        // Copies of a site get their own site ID, so the generated schedule has more sites than the exports
+        Assertions.assertThat(demands.stream().map(Demand::getConstructionSite).distinct().count())
+                .isGreaterThan(TEMPLATE_DEMANDS.stream().map(Demand::getConstructionSite).distinct().count());
+        // Resources only get categories that are demanded
+        Assertions.assertThat(schedule.getResources()).allMatch(resource -> templateCategories.contains(resource.getResourceCategory()));
+    }
+
+    @Test
+    void spreadsCopiesOverALongerHorizon() {
+        int weeks = GENERATOR.getExportWeeks() * 4;
+        Schedule schedule = GENERATOR.generate(new WorkloadParameters(20_000, 500, weeks, 5L));
+
+        long firstDay = schedule.getDemands().stream().mapToLong(Demand::getStartDay).min().orElseThrow();
+        long lastDay = schedule.getDemands().stream().mapToLong(Demand::getEndDay).max().orElseThrow();
+        Assertions.assertThat(lastDay - firstDay).isGreaterThan(GENERATOR.getExportWeeks() * 7L)
+                .isLessThanOrEqualTo(weeks * 7L);
+    }
+
+    @Test
+    void rejectsCountsOutOfRange() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new WorkloadParameters(SyntheticWorkloadGenerator.MAX_DEMAND_COUNT + 1, 500, 10, 0L));
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new WorkloadParameters(1_000, 0, 10, 0L));
+    }
+
+    private static double nightShiftShare(List<Demand> demands) {
+        return demands.stream().filter(Demand::isNightShift).count() / (double) demands.size();
+    }
+
+    private static List<String> describe(Schedule schedule) {
+        List<String> lines = new ArrayList<>();
+        for (Demand demand : schedule.getDemands()) {
+            lines.add(demand.getId() + " " + demand.getStart() + " " + demand.getEnd() + " " + demand.getConstructionSite()
+                    + " " + demand.getRequiredResourceCategory() + " " + demand.getRequiredQualifications());
+        }
+        for (Resource resource : schedule.getResources()) {
+            lines.add(resource.getName() + " " + resource.getResourceCategory() + " " + resource.getQualifications()
+                    + " " + resource.getUnavailableDates() + " " + resource.getUndesiredDates() + " " + resource.getTeam());
+        }
+        return lines;
+    }
+}
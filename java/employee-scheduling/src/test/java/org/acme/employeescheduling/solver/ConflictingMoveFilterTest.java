@@ -0,0 +1,56 @@
+package org.acme.employeescheduling.solver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConflictingMoveFilterTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-05-01T08:00:00");
+
+    private final Resource amy = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+    private final Resource beth = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+    private final Resource carl = new Resource("Carl", "TFF", Set.of("C"), Set.of(), Set.of(), "FR_1");
+
+    @Test
+    void rejectsMovesIntoAConflict() {
+        Demand early = demand("1", START, "A", amy);
+        Demand overlapping = demand("2", START.plusHours(4), "A", beth);
+        Demand nextWeek = demand("3", START.plusDays(7), "A", null);
+        Schedule schedule = schedule(early, overlapping, nextWeek);
+
+        Assertions.assertThat(ConflictingMoveFilter.acceptChange(schedule, overlapping, amy)).isFalse();
+        Assertions.assertThat(ConflictingMoveFilter.acceptChange(schedule, nextWeek, amy)).isTrue();
+        Assertions.assertThat(ConflictingMoveFilter.acceptChange(schedule, overlapping, null)).isTrue();
+        // Swapping the resources of two overlapping demands leaves each resource one of them
+        Assertions.assertThat(ConflictingMoveFilter.acceptSwap(schedule, early, overlapping)).isTrue();
+    }
+
+    @Test
+    void rejectsMovesIntoAConflictWithinADecomposedPart() {
+        Demand early = demand("1", START, "A", amy);
+        Demand other = demand("2", START, "C", carl);
+        Demand overlapping = demand("3", START.plusHours(4), "A", beth);
+        List<Schedule> parts = EligibilityComponents.split(schedule(early, other, overlapping), 10);
+
+        Schedule part = parts.get(0);
+        Assertions.assertThat(part.getDemands()).containsExactly(early, overlapping);
+        Assertions.assertThat(part.getConflictIndex()).isNotNull();
+        Assertions.assertThat(ConflictingMoveFilter.acceptChange(part, overlapping, amy)).isFalse();
+    }
+
+    private Schedule schedule(Demand... demands) {
+        Schedule schedule = new Schedule(List.of(amy, beth, carl), new ArrayList<>(List.of(demands)));
+        return schedule;
+    }
+
+    private static Demand demand(String id, LocalDateTime start, String qualification, Resource resource) {
+        return new Demand(id, start, start.plusHours(8), "Bern", "TFF", resource, Set.of(qualification));
+    }
+}
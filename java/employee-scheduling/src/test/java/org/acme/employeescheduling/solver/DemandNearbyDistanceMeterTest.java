@@ -0,0 +1,33 @@
+package org.acme.employeescheduling.solver;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DemandNearbyDistanceMeterTest {
+
+    private final DemandNearbyDistanceMeter distanceMeter = new DemandNearbyDistanceMeter();
+
+    @Test
+    void closerInTimeThenSameConstructionSiteIsNearer() {
+        Demand origin = demand("2025-05-01T08:00:00", "Bern");
+        Demand sameTimeSameSite = demand("2025-05-01T08:00:00", "Bern");
+        Demand sameTimeOtherSite = demand("2025-05-01T08:00:00", "Thun");
+        Demand laterSameSite = demand("2025-05-01T09:00:00", "Bern");
+        Demand earlierOtherSite = demand("2025-04-30T08:00:00", "Thun");
+
+        Assertions.assertThat(distanceMeter.getNearbyDistance(origin, sameTimeSameSite)).isZero();
+        Assertions.assertThat(distanceMeter.getNearbyDistance(origin, sameTimeOtherSite))
+                .isGreaterThan(0.0)
+                .isLessThan(distanceMeter.getNearbyDistance(origin, laterSameSite));
+        Assertions.assertThat(distanceMeter.getNearbyDistance(origin, laterSameSite)).isEqualTo(60.0);
+        Assertions.assertThat(distanceMeter.getNearbyDistance(origin, earlierOtherSite)).isEqualTo(24 * 60 + 0.5);
+    }
+
+    private static Demand demand(String start, String constructionSite) {
+        LocalDateTime startDateTime = LocalDateTime.parse(start);
+        return new Demand("1", startDateTime, startDateTime.plusHours(8), constructionSite, "TFF", null, Set.of("A"));
+    }
+}
@@ -0,0 +1,69 @@
+package org.acme.employeescheduling.solver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EligibilityComponentsTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-05-01T08:00:00");
+
+    private final Resource amy = new Resource("Amy", "TFF", Set.of("A", "B"), Set.of(), Set.of(), "FR_1");
+    private final Resource beth = new Resource("Beth", "TFF", Set.of("B"), Set.of(), Set.of(), "FR_1");
+    private final Resource carl = new Resource("Carl", "TFF", Set.of("C"), Set.of(), Set.of(), "FR_1");
+    private final Resource dan = new Resource("Dan", "TFF", Set.of("D"), Set.of(), Set.of(), "FR_1");
+
+    @Test
+    void splitsIntoConnectedComponents() {
+        // A links to Amy, B links Amy and Beth, C links to Carl, Dan is eligible for nothing, E for nobody
+        Schedule schedule = schedule(demand("1", "A"), demand("2", "B"), demand("3", "B"), demand("4", "C"), demand("5", "E"));
+
+        List<Schedule> parts = EligibilityComponents.split(schedule, 10);
+
+        Assertions.assertThat(parts).hasSize(2);
+        Assertions.assertThat(parts.get(0).getResources()).containsExactlyInAnyOrder(amy, beth);
+        Assertions.assertThat(parts.get(0).getDemands()).extracting(Demand::getId).containsExactly("1", "2", "3");
+        Assertions.assertThat(parts.get(1).getResources()).containsExactly(carl);
+        Assertions.assertThat(parts.get(1).getDemands()).extracting(Demand::getId).containsExactly("4");
+    }
+
+    @Test
+    void packsComponentsIntoMaxPartCount() {
+        Schedule schedule = schedule(demand("1", "B"), demand("2", "B"), demand("3", "C"), demand("4", "D"));
+
+        List<Schedule> parts = EligibilityComponents.split(schedule, 2);
+
+        Assertions.assertThat(parts).hasSize(2);
+        Assertions.assertThat(parts.get(0).getDemands()).extracting(Demand::getId).containsExactly("1", "2");
+        Assertions.assertThat(parts.get(1).getDemands()).extracting(Demand::getId).containsExactlyInAnyOrder("3", "4");
+        Assertions.assertThat(parts.get(1).getResources()).containsExactlyInAnyOrder(carl, dan);
+    }
+
+    @Test
+    void mergeReplacesSolvedDemands() {
+        Demand unassignable = demand("2", "E");
+        Schedule schedule = schedule(demand("1", "C"), unassignable);
+        Demand solved = demand("1", "C");
+        solved.setResource(carl);
+
+        Schedule merged = EligibilityComponents.merge(schedule, List.of(new Schedule(List.of(carl), List.of(solved))));
+
+        Assertions.assertThat(merged.getDemands()).containsExactly(solved, unassignable);
+        Assertions.assertThat(merged.getResources()).isSameAs(schedule.getResources());
+    }
+
+    private Schedule schedule(Demand... demands) {
+        Schedule schedule = new Schedule(List.of(amy, beth, carl, dan), new ArrayList<>(List.of(demands)));
+        return schedule;
+    }
+
+    private static Demand demand(String id, String qualification) {
+        return new Demand(id, START, START.plusHours(8), "Bern", "TFF", null, Set.of(qualification));
+    }
+}
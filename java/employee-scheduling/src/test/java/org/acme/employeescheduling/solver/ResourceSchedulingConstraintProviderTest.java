@@ -134,6 +134,29 @@ class ResourceSchedulingConstraintProviderTest {
                 .penalizes(0);
     }
 
+    @Test
+    void shiftChanges() {
+        Resource resource1 = new Resource("Amy", null, null, null, null, null);
+        Resource resource2 = new Resource("Beth", null, null, null, null, null);
+        LocalDateTime nightStart = DAY_1.atTime(LocalTime.of(22, 0));
+        LocalDateTime nightEnd = DAY_1.plusDays(1).atTime(LocalTime.of(6, 0));
+        constraintVerifier.verifyThat(EmployeeSchedulingConstraintProvider::shiftChanges)
+                .given(resource1, resource2,
+                        new Demand("1", DAY_START_TIME, DAY_END_TIME, "Location", "Skill", resource1, Set.of()),
+                        new Demand("2", nightStart, nightEnd, "Location", "Skill", resource1, Set.of()))
+                .penalizes(1);
+        constraintVerifier.verifyThat(EmployeeSchedulingConstraintProvider::shiftChanges)
+                .given(resource1, resource2,
+                        new Demand("1", DAY_START_TIME, DAY_END_TIME, "Location", "Skill", resource1, Set.of()),
+                        new Demand("2", nightStart.plusDays(2), nightEnd.plusDays(2), "Location", "Skill", resource1, Set.of()))
+                .penalizes(0);
+        constraintVerifier.verifyThat(EmployeeSchedulingConstraintProvider::shiftChanges)
+                .given(resource1, resource2,
+                        new Demand("1", DAY_START_TIME, DAY_END_TIME, "Location", "Skill", resource1, Set.of()),
+                        new Demand("2", nightStart, nightEnd, "Location", "Skill", resource2, Set.of()))
+                .penalizes(0);
+    }
+
     @Test
     void unavailableEmployee() {
         Resource resource1 = new Resource("Amy", null, null, Set.of(DAY_1, DAY_3), null, null);
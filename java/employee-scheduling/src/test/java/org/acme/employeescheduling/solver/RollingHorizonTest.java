@@ -0,0 +1,75 @@
+package org.acme.employeescheduling.solver;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RollingHorizonTest {
+
+    private static final Resource AMY = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+    private static final Resource BETH = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+
+    @Test
+    void windowsCoverAllDemandStartsWithOverlap() {
+        List<Demand> demands = List.of(demand("1", "2025-05-01T08:00:00", null), demand("2", "2025-05-16T08:00:00", null));
+
+        List<RollingHorizon.Window> windows = RollingHorizon.windows(demands, Duration.ofDays(7), Duration.ofDays(1));
+
+        Assertions.assertThat(windows).extracting(RollingHorizon.Window::start).containsExactly(
+                LocalDateTime.parse("2025-05-01T00:00:00"),
+                LocalDateTime.parse("2025-05-08T00:00:00"),
+                LocalDateTime.parse("2025-05-15T00:00:00"));
+        Assertions.assertThat(windows.get(0).overlapEnd()).isEqualTo(LocalDateTime.parse("2025-05-09T00:00:00"));
+        Assertions.assertThat(RollingHorizon.windows(List.of(), Duration.ofDays(7), Duration.ZERO)).isEmpty();
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> RollingHorizon.windows(demands, Duration.ZERO, Duration.ZERO));
+    }
+
+    @Test
+    void windowProblemPinsEarlierDemandsAndLeavesOutLaterDemands() {
+        Demand earlier = demand("earlier", "2025-05-07T08:00:00", AMY);
+        Demand inWindow = demand("inWindow", "2025-05-08T08:00:00", null);
+        Demand inOverlap = demand("inOverlap", "2025-05-15T08:00:00", null);
+        Demand later = demand("later", "2025-05-16T08:00:00", null);
+        RollingHorizon.Window window = new RollingHorizon.Window(LocalDateTime.parse("2025-05-08T00:00:00"),
+                LocalDateTime.parse("2025-05-15T00:00:00"), LocalDateTime.parse("2025-05-16T00:00:00"));
+
+        Schedule problem = RollingHorizon.windowProblem(List.of(AMY, BETH), List.of(earlier, inWindow, inOverlap, later), window);
+
+        Assertions.assertThat(problem.getDemands()).extracting(Demand::getId)
+                .containsExactly("earlier", "inWindow", "inOverlap");
+        Assertions.assertThat(problem.getDemands()).extracting(Demand::isPinned).containsExactly(true, false, false);
+        Assertions.assertThat(problem.getDemands().get(0).getResource()).isSameAs(AMY);
+        Assertions.assertThat(problem.getDemands().get(1).getEligibleResources()).containsExactly(AMY, BETH);
+        Assertions.assertThat(earlier.isPinned()).isFalse();
+    }
+
+    @Test
+    void mergeTakesOnlyMovableDemandsFromWindowSolution() {
+        Demand earlier = demand("earlier", "2025-05-07T08:00:00", AMY);
+        Demand inWindow = demand("inWindow", "2025-05-08T08:00:00", null);
+        Demand later = demand("later", "2025-05-16T08:00:00", null);
+        RollingHorizon.Window window = new RollingHorizon.Window(LocalDateTime.parse("2025-05-08T00:00:00"),
+                LocalDateTime.parse("2025-05-15T00:00:00"), LocalDateTime.parse("2025-05-16T00:00:00"));
+        List<Demand> demands = List.of(earlier, inWindow, later);
+        Schedule windowSolution = RollingHorizon.windowProblem(List.of(AMY, BETH), demands, window);
+        windowSolution.getDemands().forEach(demand -> demand.setResource(BETH));
+
+        Schedule merged = RollingHorizon.merge(List.of(AMY, BETH), demands, windowSolution, window);
+
+        Assertions.assertThat(merged.getDemands()).extracting(Demand::getId).containsExactly("earlier", "inWindow", "later");
+        Assertions.assertThat(merged.getDemands()).extracting(Demand::getResource).containsExactly(AMY, BETH, null);
+        Assertions.assertThat(merged.getDemands().get(0)).isSameAs(earlier);
+    }
+
+    private static Demand demand(String id, String start, Resource resource) {
+        LocalDateTime startDateTime = LocalDateTime.parse(start);
+        return new Demand(id, startDateTime, startDateTime.plusHours(8), "Bern", "TFF", resource, Set.of("A"));
+    }
+}
@@ -0,0 +1,83 @@
+package org.acme.employeescheduling.solver;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SweepLineConstructionHeuristicTest {
+
+    @Test
+    void keepsRestTimeAndPrefersSameConstructionSite() {
+        Resource amy = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        Resource beth = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_2");
+        Demand first = demand("1", "2025-05-01T08:00:00", "Bern");
+        Demand tooSoon = demand("2", "2025-05-01T20:00:00", "Thun");
+        Demand nextDay = demand("3", "2025-05-02T08:00:00", "Bern");
+        List<Demand> demands = sweep(List.of(amy, beth), nextDay, tooSoon, first);
+
+        // Amy ends at 16:00, so only Beth is rested for 20:00; Amy is rested again and was in Bern the day before
+        Assertions.assertThat(first.getResource()).isSameAs(amy);
+        Assertions.assertThat(tooSoon.getResource()).isSameAs(beth);
+        Assertions.assertThat(nextDay.getResource()).isSameAs(amy);
+        Assertions.assertThat(demands).allMatch(Demand::isAssigned);
+    }
+
+    @Test
+    void prefersTeamOfSameShiftAndSkipsUnavailableResources() {
+        Resource amy = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        Resource beth = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_2");
+        Resource carl = new Resource("Carl", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        Resource dan = new Resource("Dan", "TFF", Set.of("A"), Set.of(LocalDate.parse("2025-05-01")), Set.of(), "FR_2");
+        Demand first = demand("1", "2025-05-01T08:00:00", "Bern");
+        Demand second = demand("2", "2025-05-01T08:00:00", "Bern");
+        Demand third = demand("3", "2025-05-01T08:00:00", "Bern");
+        Demand fourth = demand("4", "2025-05-01T08:00:00", "Bern");
+        sweep(List.of(amy, beth, carl, dan), first, second, third, fourth);
+
+        Assertions.assertThat(first.getResource()).isSameAs(amy);
+        Assertions.assertThat(second.getResource()).isSameAs(carl);
+        Assertions.assertThat(third.getResource()).isSameAs(beth);
+        Assertions.assertThat(fourth.getResource()).isNull();
+    }
+
+    @Test
+    void keepsPinnedAndAssignedDemands() {
+        Resource amy = new Resource("Amy", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        Resource beth = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_2");
+        Demand assigned = demand("1", "2025-05-01T08:00:00", "Bern");
+        assigned.setResource(beth);
+        Demand pinned = demand("2", "2025-05-01T09:00:00", "Bern");
+        pinned.setPinned(true);
+        Demand open = demand("3", "2025-05-01T10:00:00", "Bern");
+        List<Demand> assignedDemands = new ArrayList<>();
+        Schedule schedule = new Schedule(List.of(amy, beth), List.of(assigned, pinned, open));
+
+        SweepLineConstructionHeuristic.sweep(schedule.getDemands(), () -> false, (demand, resource) -> {
+            assignedDemands.add(demand);
+            demand.setResource(resource);
+        });
+
+        Assertions.assertThat(assignedDemands).containsExactly(open);
+        Assertions.assertThat(assigned.getResource()).isSameAs(beth);
+        Assertions.assertThat(pinned.getResource()).isNull();
+        Assertions.assertThat(open.getResource()).isSameAs(amy);
+    }
+
+    private static List<Demand> sweep(List<Resource> resources, Demand... demands) {
+        Schedule schedule = new Schedule(resources, List.of(demands));
+        SweepLineConstructionHeuristic.sweep(schedule.getDemands(), () -> false, Demand::setResource);
+        return schedule.getDemands();
+    }
+
+    private static Demand demand(String id, String start, String constructionSite) {
+        LocalDateTime startDateTime = LocalDateTime.parse(start);
+        return new Demand(id, startDateTime, startDateTime.plusHours(8), constructionSite, "TFF", null, Set.of("A"));
+    }
+}
@@ -0,0 +1,92 @@
+package org.acme.employeescheduling.solver.change;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.test.api.solver.change.MockProblemChangeDirector;
+
+import org.acme.employeescheduling.domain.Demand;
+import org.acme.employeescheduling.domain.Resource;
+import org.acme.employeescheduling.domain.Schedule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProblemChangeTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-05-01T08:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2025-05-01T16:00:00");
+
+    private final MockProblemChangeDirector problemChangeDirector = new MockProblemChangeDirector();
+
+    private Resource amy;
+    private Resource beth;
+    private Demand demand;
+    private Schedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        amy = new Resource("Amy", "TFF", Set.of("A", "B"), Set.of(), Set.of(), "FR_1");
+        beth = new Resource("Beth", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_1");
+        demand = new Demand("1", START, END, "Bern", "TFF", amy, Set.of("A"));
+        schedule = new Schedule();
+        schedule.setResources(new ArrayList<>(List.of(amy, beth)));
+        schedule.setDemands(new ArrayList<>(List.of(demand)));
+    }
+
+    @Test
+    void addDemand() {
+        Demand added = new Demand("2", START, END, "Thun", "TFF", beth, Set.of("B"));
+
+        new AddDemandProblemChange(added).doChange(schedule, problemChangeDirector);
+
+        Assertions.assertThat(schedule.getDemands()).containsExactly(demand, added);
+        Assertions.assertThat(added.getResource()).isNull();
+        Assertions.assertThat(added.getEligibleResources()).containsExactly(amy);
+    }
+
+    @Test
+    void changeDemandUnassignsIneligibleResource() {
+        Demand changed = new Demand("1", START.plusDays(1), END.plusDays(1), "Thun", "TFF", null, Set.of("C"));
+
+        new ChangeDemandProblemChange(changed).doChange(schedule, problemChangeDirector);
+
+        Assertions.assertThat(demand.getStart()).isEqualTo(START.plusDays(1));
+        Assertions.assertThat(demand.getConstructionSite()).isEqualTo("Thun");
+        Assertions.assertThat(demand.getShiftId()).isEqualTo(changed.getShiftId()).startsWith("Thun-");
+        Assertions.assertThat(demand.getEligibleResources()).isEmpty();
+        Assertions.assertThat(demand.getResource()).isNull();
+    }
+
+    @Test
+    void removeDemand() {
+        new RemoveDemandProblemChange("1").doChange(schedule, problemChangeDirector);
+        new RemoveDemandProblemChange("unknown").doChange(schedule, problemChangeDirector);
+
+        Assertions.assertThat(schedule.getDemands()).isEmpty();
+    }
+
+    @Test
+    void addAndRemoveResource() {
+        Resource cleo = new Resource("Cleo", "TFF", Set.of("A"), Set.of(), Set.of(), "FR_2");
+
+        new AddResourceProblemChange(cleo).doChange(schedule, problemChangeDirector);
+        Assertions.assertThat(demand.getEligibleResources()).containsExactly(amy, beth, cleo);
+
+        new RemoveResourceProblemChange("Amy").doChange(schedule, problemChangeDirector);
+        Assertions.assertThat(schedule.getResources()).containsExactly(beth, cleo);
+        Assertions.assertThat(demand.getEligibleResources()).containsExactly(beth, cleo);
+        Assertions.assertThat(demand.getResource()).isNull();
+    }
+
+    @Test
+    void addUnavailableDates() {
+        new AddUnavailableDatesProblemChange("Amy", Set.of(LocalDate.parse("2025-05-01"))).doChange(schedule, problemChangeDirector);
+
+        Assertions.assertThat(amy.getUnavailableDates()).containsExactly(LocalDate.parse("2025-05-01"));
+        Assertions.assertThat(amy.getUnavailableCalendar().isTouchedBy(demand)).isTrue();
+    }
+}